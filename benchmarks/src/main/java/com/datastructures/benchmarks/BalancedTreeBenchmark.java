@@ -0,0 +1,127 @@
+package com.datastructures.benchmarks;
+
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.datastructures.nonlinear.Node;
+import com.datastructures.nonlinear.ads.AVLTree;
+import com.datastructures.nonlinear.ads.RedBlackTree;
+
+/**
+ * Building and searching {@link AVLTree} and {@link RedBlackTree}, with <code>TreeSet</code> as baseline.
+ * Build benchmarks insert all keys into an empty tree, so they are measured as average time per build.
+ * 
+ * @author Sasi on 19-Oct-2026, 12:20:47 pm
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BalancedTreeBenchmark {
+
+	private static final int OPERATIONS = 1 << 16;
+
+	@Param({"1000", "100000"})
+	int size;
+
+	@Param({"UNIFORM", "SEQUENTIAL"})
+	KeyDistribution distribution;
+
+	//Distinct keys to insert, red black tree doesn't accept duplicates
+	private int[] insertions;
+	private int[] lookups;
+	private int index;
+
+	private Node avlRoot;
+	private Node redBlackRoot;
+	private TreeSet<Integer> treeSet;
+
+	@Setup
+	public void setup() throws IllegalAccessException {
+		if(distribution == KeyDistribution.SEQUENTIAL){
+			insertions = KeyDistribution.SEQUENTIAL.keys(size, size, 42);
+		}else{
+			insertions = KeyDistribution.shuffledKeys(size, new Random(42));
+		}
+		lookups = KeyDistribution.UNIFORM.keys(OPERATIONS, size, 42);
+
+		avlRoot = buildAvlTree();
+		redBlackRoot = buildRedBlackTree();
+		treeSet = buildTreeSet();
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.AverageTime)
+	public Node buildAvlTree(){
+		AVLTree tree = new AVLTree();
+		Node root = null;
+		for(int key : insertions){
+			root = tree.insertNode(root, key);
+		}
+		return root;
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.AverageTime)
+	public Node buildRedBlackTree() throws IllegalAccessException {
+		RedBlackTree tree = new RedBlackTree();
+		Node root = null;
+		for(int key : insertions){
+			root = tree.insertNode(root, key);
+		}
+		return root;
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.AverageTime)
+	public TreeSet<Integer> buildTreeSet(){
+		TreeSet<Integer> set = new TreeSet<>();
+		for(int key : insertions){
+			set.add(key);
+		}
+		return set;
+	}
+
+	@Benchmark
+	public boolean searchAvlTree(){
+		return contains(avlRoot, lookups[index++ & (OPERATIONS - 1)]);
+	}
+
+	@Benchmark
+	public boolean searchRedBlackTree(){
+		return contains(redBlackRoot, lookups[index++ & (OPERATIONS - 1)]);
+	}
+
+	@Benchmark
+	public boolean searchTreeSet(){
+		return treeSet.contains(lookups[index++ & (OPERATIONS - 1)]);
+	}
+
+	/**
+	 * Neither tree has a search method which returns result (red black tree prints it), so walking nodes here.
+	 */
+	private static boolean contains(Node node, int key){
+		while(null != node && !node.isNullLeaf()){
+			if(key == node.getValue()){
+				return true;
+			}
+			node = key < node.getValue() ? node.getLeft() : node.getRight();
+		}
+		return false;
+	}
+}
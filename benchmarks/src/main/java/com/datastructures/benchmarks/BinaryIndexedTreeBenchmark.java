@@ -0,0 +1,69 @@
+package com.datastructures.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.datastructures.nonlinear.ads.BinaryIndexedtree;
+
+/**
+ * Prefix sum queries on {@link BinaryIndexedtree}, with a linear scan over the array as baseline.
+ * 
+ * @author Sasi on 19-Oct-2026, 1:05:16 pm
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BinaryIndexedTreeBenchmark {
+
+	private static final int OPERATIONS = 1 << 14;
+
+	@Param({"1000", "1000000"})
+	int size;
+
+	private int[] array;
+	private int[] endIndexes;
+	private int index;
+
+	private BinaryIndexedtree binaryIndexedTree;
+
+	@Setup
+	public void setup(){
+		Random random = new Random(42);
+		array = new int[size];
+		for(int i=0;i<size;i++){
+			array[i] = random.nextInt(1000);
+		}
+		binaryIndexedTree = new BinaryIndexedtree(array);
+		endIndexes = KeyDistribution.UNIFORM.keys(OPERATIONS, size, 42);
+	}
+
+	@Benchmark
+	public int binaryIndexedTree(){
+		return binaryIndexedTree.getSum(endIndexes[index++ & (OPERATIONS - 1)]);
+	}
+
+	@Benchmark
+	public int linearScan(){
+		int endIndex = endIndexes[index++ & (OPERATIONS - 1)];
+		int sum = 0;
+		for(int i=0;i<=endIndex;i++){
+			sum += array[i];
+		}
+		return sum;
+	}
+}
@@ -0,0 +1,114 @@
+package com.datastructures.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.datastructures.linear.ConcurrentHashMap;
+
+/**
+ * Mixed read/write workload shared by several threads on {@link ConcurrentHashMap}, with <code>java.util.concurrent.ConcurrentHashMap</code> as baseline.
+ * Runs with 4 threads by default, thread count can be changed with <code>-t</code> option of JMH.
+ * 
+ * @author Sasi on 19-Oct-2026, 10:31:27 am
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class ConcurrentHashMapBenchmark {
+
+	private static final int OPERATIONS = 1 << 16;
+
+	@Param({"100000"})
+	int size;
+
+	@Param({"UNIFORM", "ZIPF"})
+	KeyDistribution distribution;
+
+	@Param({"0.9", "0.5"})
+	double readRatio;
+
+	private Integer[] keys;
+	private boolean[] reads;
+
+	private ConcurrentHashMap<Integer, Integer> concurrentHashMap;
+	private java.util.concurrent.ConcurrentHashMap<Integer, Integer> jdkConcurrentHashMap;
+
+	/**
+	 * Position of each thread in the operation sequence, threads start at different offsets.
+	 */
+	@State(Scope.Thread)
+	public static class Cursor{
+		int index;
+
+		@Setup
+		public void setup(){
+			index = new Random().nextInt(OPERATIONS);
+		}
+	}
+
+	@Setup
+	public void setup(){
+		Random random = new Random(42);
+		int universe = 2 * size;
+
+		int[] generated = distribution.keys(OPERATIONS, universe, 42);
+		keys = new Integer[OPERATIONS];
+		reads = new boolean[OPERATIONS];
+		for(int i=0;i<OPERATIONS;i++){
+			keys[i] = generated[i];
+			reads[i] = random.nextDouble() < readRatio;
+		}
+
+		concurrentHashMap = new ConcurrentHashMap<>();
+		jdkConcurrentHashMap = new java.util.concurrent.ConcurrentHashMap<>();
+
+		int[] initial = KeyDistribution.shuffledKeys(universe, random);
+		for(int i=0;i<size;i++){
+			concurrentHashMap.put(initial[i], initial[i]);
+			jdkConcurrentHashMap.put(initial[i], initial[i]);
+		}
+	}
+
+	@Benchmark
+	public Integer concurrentHashMap(Cursor cursor){
+		int i = cursor.index++ & (OPERATIONS - 1);
+		Integer key = keys[i];
+		if(reads[i]){
+			return concurrentHashMap.get(key);
+		}
+		if((i & 1) == 0){
+			return concurrentHashMap.put(key, key);
+		}
+		return concurrentHashMap.remove(key);
+	}
+
+	@Benchmark
+	public Integer jdkConcurrentHashMap(Cursor cursor){
+		int i = cursor.index++ & (OPERATIONS - 1);
+		Integer key = keys[i];
+		if(reads[i]){
+			return jdkConcurrentHashMap.get(key);
+		}
+		if((i & 1) == 0){
+			return jdkConcurrentHashMap.put(key, key);
+		}
+		return jdkConcurrentHashMap.remove(key);
+	}
+}
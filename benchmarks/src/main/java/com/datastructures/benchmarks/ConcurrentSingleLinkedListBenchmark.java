@@ -0,0 +1,109 @@
+package com.datastructures.benchmarks;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.datastructures.linear.ConcurrentSingleLinkedList;
+import com.datastructures.linear.SingleLinkedList;
+
+/**
+ * Read heavy set workload from 1 and 4 threads: 90% contains, 5% add and 5% remove of random keys, on {@link ConcurrentSingleLinkedList}
+ * against {@link SingleLinkedList} guarded by a lock. Half of the keys are in the set at start, and adds and removes keep it around that size.
+ * 
+ * @author Sasi on 20-Oct-2026, 11:02:13 am
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentSingleLinkedListBenchmark {
+
+	@Param({"1000"})
+	int keyRange;
+
+	private ConcurrentSingleLinkedList<Integer> concurrentList;
+	private SingleLinkedList<Integer> list;
+	private Integer[] keys;
+
+	@Setup
+	public void setup(){
+		concurrentList = new ConcurrentSingleLinkedList<>();
+		list = new SingleLinkedList<>();
+		keys = new Integer[keyRange];
+		for(int i=0;i<keyRange;i++){
+			keys[i] = i;
+			if(i % 2 == 0){
+				concurrentList.add(keys[i]);
+				list.add(keys[i]);
+			}
+		}
+	}
+
+	private boolean concurrentOperation(){
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		Integer key = keys[random.nextInt(keyRange)];
+		int operation = random.nextInt(100);
+		if(operation < 90){
+			return concurrentList.contains(key);
+		}
+		return operation < 95 ? concurrentList.add(key) : concurrentList.remove(key);
+	}
+
+	private boolean synchronizedOperation(){
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		Integer key = keys[random.nextInt(keyRange)];
+		int operation = random.nextInt(100);
+		synchronized (list) {
+			if(operation < 90){
+				return list.contains(key);
+			}
+			if(operation < 95){
+				if(list.contains(key)){
+					return false;
+				}
+				list.add(key);
+				return true;
+			}
+			return list.remove(key);
+		}
+	}
+
+	@Benchmark
+	@Threads(1)
+	public boolean concurrentList1(){
+		return concurrentOperation();
+	}
+
+	@Benchmark
+	@Threads(4)
+	public boolean concurrentList4(){
+		return concurrentOperation();
+	}
+
+	@Benchmark
+	@Threads(1)
+	public boolean synchronizedList1(){
+		return synchronizedOperation();
+	}
+
+	@Benchmark
+	@Threads(4)
+	public boolean synchronizedList4(){
+		return synchronizedOperation();
+	}
+}
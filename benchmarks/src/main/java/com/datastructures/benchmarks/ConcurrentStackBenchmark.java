@@ -0,0 +1,99 @@
+package com.datastructures.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.datastructures.linear.ConcurrentStack;
+import com.datastructures.linear.Stack;
+
+/**
+ * Push followed by pop from 1, 4 and 8 threads on one shared stack, {@link ConcurrentStack} against {@link Stack} guarded by a lock.
+ * Every thread pushes and pops in equal numbers, which is where elimination helps most. Thread count can be changed for all methods with <code>-t</code>.
+ * 
+ * @author Sasi on 19-Oct-2026, 11:08:26 pm
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentStackBenchmark {
+
+	private static final Integer ELEMENT = 42;
+
+	private ConcurrentStack<Integer> concurrentStack;
+	private Stack<Integer> stack;
+
+	@Setup
+	public void setup(){
+		concurrentStack = new ConcurrentStack<>();
+		stack = new Stack<>();
+		//Keeping a few elements in, so pops rarely find stack empty
+		for(int i=0;i<64;i++){
+			concurrentStack.push(i);
+			stack.push(i);
+		}
+	}
+
+	private Integer concurrentPushPop(){
+		concurrentStack.push(ELEMENT);
+		return concurrentStack.pop();
+	}
+
+	private Integer synchronizedPushPop(){
+		synchronized (stack) {
+			stack.push(ELEMENT);
+		}
+		synchronized (stack) {
+			return stack.pop();
+		}
+	}
+
+	@Benchmark
+	@Threads(1)
+	public Integer concurrentStack1(){
+		return concurrentPushPop();
+	}
+
+	@Benchmark
+	@Threads(4)
+	public Integer concurrentStack4(){
+		return concurrentPushPop();
+	}
+
+	@Benchmark
+	@Threads(8)
+	public Integer concurrentStack8(){
+		return concurrentPushPop();
+	}
+
+	@Benchmark
+	@Threads(1)
+	public Integer synchronizedStack1(){
+		return synchronizedPushPop();
+	}
+
+	@Benchmark
+	@Threads(4)
+	public Integer synchronizedStack4(){
+		return synchronizedPushPop();
+	}
+
+	@Benchmark
+	@Threads(8)
+	public Integer synchronizedStack8(){
+		return synchronizedPushPop();
+	}
+}
@@ -0,0 +1,84 @@
+package com.datastructures.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.datastructures.linear.ConcurrentDisjointSets;
+import com.datastructures.linear.IntDisjointSets;
+
+/**
+ * Connected components of a random graph with {@link ConcurrentDisjointSets#components(int, int[], int[])} in a fork join pool of 1 to N threads,
+ * with a single threaded pass over {@link IntDisjointSets} as baseline. Parallelism values can be changed with <code>-p parallelism=...</code>.
+ * 
+ * @author Sasi on 19-Oct-2026, 8:41:37 pm
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class DisjointSetsBenchmark {
+
+	@Param({"1000000"})
+	int vertices;
+
+	@Param({"4000000"})
+	int edges;
+
+	@Param({"1", "2", "4", "8"})
+	int parallelism;
+
+	private int[] sources;
+	private int[] targets;
+	private ForkJoinPool pool;
+
+	@Setup
+	public void setup(){
+		Random random = new Random(42);
+		sources = new int[edges];
+		targets = new int[edges];
+		for(int i=0;i<edges;i++){
+			sources[i] = random.nextInt(vertices);
+			targets[i] = random.nextInt(vertices);
+		}
+		pool = new ForkJoinPool(parallelism);
+	}
+
+	@TearDown
+	public void tearDown(){
+		pool.shutdown();
+	}
+
+	@Benchmark
+	public int[] concurrentDisjointSets(){
+		return pool.submit(() -> ConcurrentDisjointSets.components(vertices, sources, targets)).join();
+	}
+
+	@Benchmark
+	public int[] intDisjointSets(){
+		IntDisjointSets sets = new IntDisjointSets(vertices);
+		for(int i=0;i<edges;i++){
+			sets.union(sources[i], targets[i]);
+		}
+		int[] components = new int[vertices];
+		for(int i=0;i<vertices;i++){
+			components[i] = sets.find(i);
+		}
+		return components;
+	}
+}
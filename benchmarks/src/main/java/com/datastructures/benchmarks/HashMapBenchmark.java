@@ -0,0 +1,138 @@
+package com.datastructures.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.datastructures.linear.HashMap;
+import com.datastructures.linear.IntIntHashMap;
+import com.datastructures.linear.OpenAddressingHashMap;
+
+/**
+ * Mixed read/write workload on {@link HashMap}, {@link OpenAddressingHashMap} and {@link IntIntHashMap} with <code>java.util.HashMap</code> as baseline.
+ * Every invocation runs one operation from a pre-generated sequence. Reads are <code>get</code>, writes alternate between <code>put</code> and <code>remove</code>
+ * on a universe of twice the map size, so the map stays around its initial size.
+ * 
+ * @author Sasi on 19-Oct-2026, 9:40:18 am
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HashMapBenchmark {
+
+	private static final int OPERATIONS = 1 << 16;
+
+	@Param({"10000", "1000000"})
+	int size;
+
+	@Param({"UNIFORM", "ZIPF"})
+	KeyDistribution distribution;
+
+	@Param({"1.0", "0.9", "0.5"})
+	double readRatio;
+
+	private Integer[] keys;
+	private int[] intKeys;
+	private boolean[] reads;
+	private int index;
+
+	private HashMap<Integer, Integer> hashMap;
+	private OpenAddressingHashMap<Integer, Integer> openAddressingHashMap;
+	private IntIntHashMap intIntHashMap;
+	private java.util.HashMap<Integer, Integer> jdkHashMap;
+
+	@Setup
+	public void setup() throws Exception {
+		Random random = new Random(42);
+		int universe = 2 * size;
+
+		int[] generated = distribution.keys(OPERATIONS, universe, 42);
+		intKeys = generated;
+		keys = new Integer[OPERATIONS];
+		reads = new boolean[OPERATIONS];
+		for(int i=0;i<OPERATIONS;i++){
+			keys[i] = generated[i];
+			reads[i] = random.nextDouble() < readRatio;
+		}
+
+		hashMap = new HashMap<>();
+		openAddressingHashMap = new OpenAddressingHashMap<>();
+		intIntHashMap = new IntIntHashMap();
+		jdkHashMap = new java.util.HashMap<>();
+
+		int[] initial = KeyDistribution.shuffledKeys(universe, random);
+		for(int i=0;i<size;i++){
+			hashMap.put(initial[i], initial[i]);
+			openAddressingHashMap.put(initial[i], initial[i]);
+			intIntHashMap.put(initial[i], initial[i]);
+			jdkHashMap.put(initial[i], initial[i]);
+		}
+	}
+
+	@Benchmark
+	public Integer hashMap() throws Exception {
+		int i = index++ & (OPERATIONS - 1);
+		Integer key = keys[i];
+		if(reads[i]){
+			return hashMap.get(key);
+		}
+		if((i & 1) == 0){
+			return hashMap.put(key, key);
+		}
+		hashMap.remove(key);
+		return key;
+	}
+
+	@Benchmark
+	public Integer openAddressingHashMap(){
+		int i = index++ & (OPERATIONS - 1);
+		Integer key = keys[i];
+		if(reads[i]){
+			return openAddressingHashMap.get(key);
+		}
+		if((i & 1) == 0){
+			return openAddressingHashMap.put(key, key);
+		}
+		return openAddressingHashMap.remove(key);
+	}
+
+	@Benchmark
+	public int intIntHashMap(){
+		int i = index++ & (OPERATIONS - 1);
+		int key = intKeys[i];
+		if(reads[i]){
+			return intIntHashMap.get(key);
+		}
+		if((i & 1) == 0){
+			return intIntHashMap.put(key, key);
+		}
+		return intIntHashMap.remove(key);
+	}
+
+	@Benchmark
+	public Integer jdkHashMap(){
+		int i = index++ & (OPERATIONS - 1);
+		Integer key = keys[i];
+		if(reads[i]){
+			return jdkHashMap.get(key);
+		}
+		if((i & 1) == 0){
+			return jdkHashMap.put(key, key);
+		}
+		return jdkHashMap.remove(key);
+	}
+}
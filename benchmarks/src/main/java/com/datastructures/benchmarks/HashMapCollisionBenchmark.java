@@ -0,0 +1,112 @@
+package com.datastructures.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.datastructures.linear.HashMap;
+
+/**
+ * Lookups when every key has same hash code. {@link HashMap} keeps such bucket as a tree, <code>chainedBucket</code> walks a plain list
+ * the way a bucket did before tree buckets were added, and <code>java.util.HashMap</code> is the JDK baseline.
+ * 
+ * @author Sasi on 19-Oct-2026, 10:05:44 am
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HashMapCollisionBenchmark {
+
+	private static final int OPERATIONS = 1 << 12;
+
+	@Param({"16", "256", "4096"})
+	int size;
+
+	private CollidingKey[] lookups;
+	private int index;
+
+	private HashMap<CollidingKey, Integer> hashMap;
+	private ArrayList<CollidingKey> chainedBucket;
+	private java.util.HashMap<CollidingKey, Integer> jdkHashMap;
+
+	/**
+	 * Key whose hash code is always same.
+	 */
+	static final class CollidingKey implements Comparable<CollidingKey>{
+		final int id;
+
+		CollidingKey(int id) {
+			this.id = id;
+		}
+
+		@Override
+		public int hashCode() {
+			return 42;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof CollidingKey && ((CollidingKey) obj).id == id;
+		}
+
+		@Override
+		public int compareTo(CollidingKey other) {
+			return Integer.compare(id, other.id);
+		}
+	}
+
+	@Setup
+	public void setup() throws Exception {
+		hashMap = new HashMap<>();
+		chainedBucket = new ArrayList<>();
+		jdkHashMap = new java.util.HashMap<>();
+		for(int i=0;i<size;i++){
+			CollidingKey key = new CollidingKey(i);
+			hashMap.put(key, i);
+			chainedBucket.add(key);
+			jdkHashMap.put(key, i);
+		}
+
+		Random random = new Random(42);
+		lookups = new CollidingKey[OPERATIONS];
+		for(int i=0;i<OPERATIONS;i++){
+			lookups[i] = new CollidingKey(random.nextInt(size));
+		}
+	}
+
+	@Benchmark
+	public Integer hashMap(){
+		return hashMap.get(lookups[index++ & (OPERATIONS - 1)]);
+	}
+
+	@Benchmark
+	public Integer chainedBucket(){
+		CollidingKey key = lookups[index++ & (OPERATIONS - 1)];
+		for(int i=0;i<chainedBucket.size();i++){
+			if(key.equals(chainedBucket.get(i))){
+				return i;
+			}
+		}
+		return null;
+	}
+
+	@Benchmark
+	public Integer jdkHashMap(){
+		return jdkHashMap.get(lookups[index++ & (OPERATIONS - 1)]);
+	}
+}
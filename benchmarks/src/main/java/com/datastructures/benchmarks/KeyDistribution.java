@@ -0,0 +1,89 @@
+package com.datastructures.benchmarks;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * <code>KeyDistribution</code> generates keys which benchmarks look up, insert and remove.
+ * 
+ * <ul>
+ * 	<li>UNIFORM - every key of the universe is equally likely.</li>
+ * 	<li>SEQUENTIAL - keys come in ascending order and wrap around at the end of universe.</li>
+ * 	<li>ZIPF - few keys are very hot, key of rank r is picked with probability proportional to 1/r (exponent 0.99).</li>
+ * </ul>
+ * 
+ * @author Sasi on 19-Oct-2026, 9:14:02 am
+ */
+public enum KeyDistribution {
+	UNIFORM, SEQUENTIAL, ZIPF;
+
+	private static final double ZIPF_EXPONENT = 0.99;
+
+	/**
+	 * Returns <code>count</code> keys from range [0, universe).
+	 * 
+	 * @param count
+	 * @param universe
+	 * @param seed
+	 * @return
+	 */
+	public int[] keys(int count, int universe, long seed){
+		Random random = new Random(seed);
+		int[] keys = new int[count];
+
+		switch(this){
+		case UNIFORM:
+			for(int i=0;i<count;i++){
+				keys[i] = random.nextInt(universe);
+			}
+			break;
+		case SEQUENTIAL:
+			for(int i=0;i<count;i++){
+				keys[i] = i % universe;
+			}
+			break;
+		case ZIPF:
+			
+			//Cumulative distribution of ranks, sampled with binary search
+			double[] cdf = new double[universe];
+			double sum = 0;
+			for(int i=0;i<universe;i++){
+				sum += 1 / Math.pow(i + 1, ZIPF_EXPONENT);
+				cdf[i] = sum;
+			}
+
+			//Ranks are scattered over the universe so that hot keys are not neighbours
+			int[] rankToKey = shuffledKeys(universe, random);
+			for(int i=0;i<count;i++){
+				int rank = Arrays.binarySearch(cdf, random.nextDouble() * sum);
+				rank = rank < 0 ? Math.min(-rank - 1, universe - 1) : rank;
+				keys[i] = rankToKey[rank];
+			}
+			break;
+		}
+
+		return keys;
+	}
+
+	/**
+	 * Returns all keys of [0, size) in random order.
+	 * 
+	 * @param size
+	 * @param random
+	 * @return
+	 */
+	public static int[] shuffledKeys(int size, Random random){
+		int[] keys = new int[size];
+		for(int i=0;i<size;i++){
+			keys[i] = i;
+		}
+
+		for(int i=size-1;i>0;i--){
+			int j = random.nextInt(i + 1);
+			int temp = keys[i];
+			keys[i] = keys[j];
+			keys[j] = temp;
+		}
+		return keys;
+	}
+}
@@ -0,0 +1,154 @@
+package com.datastructures.benchmarks;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.datastructures.linear.DoubleStack;
+import com.datastructures.linear.IntStack;
+import com.datastructures.linear.LongStack;
+
+/**
+ * Pushing and then popping <code>size</code> elements with {@link IntStack}, {@link LongStack} and {@link DoubleStack} against <code>ArrayDeque</code> of boxed values,
+ * and visiting all elements with <code>forEach</code>. Stacks are reused across invocations, so only boxing allocates. Run with <code>-prof gc</code> to see allocation per operation.
+ * 
+ * @author Sasi on 19-Oct-2026, 11:41:05 pm
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveStackBenchmark {
+
+	@Param({"1000", "1000000"})
+	int size;
+
+	private IntStack intStack;
+	private LongStack longStack;
+	private DoubleStack doubleStack;
+	private ArrayDeque<Integer> integerDeque;
+	private ArrayDeque<Long> longDeque;
+	private ArrayDeque<Double> doubleDeque;
+
+	private IntStack filledIntStack;
+	private ArrayDeque<Integer> filledIntegerDeque;
+
+	@Setup
+	public void setup(){
+		intStack = new IntStack(size, false);
+		longStack = new LongStack(size, false);
+		doubleStack = new DoubleStack(size, false);
+		integerDeque = new ArrayDeque<>(size);
+		longDeque = new ArrayDeque<>(size);
+		doubleDeque = new ArrayDeque<>(size);
+
+		filledIntStack = new IntStack(size, false);
+		filledIntegerDeque = new ArrayDeque<>(size);
+		for(int i=0;i<size;i++){
+			filledIntStack.push(i);
+			filledIntegerDeque.push(i);
+		}
+	}
+
+	//Values start above Integer cache, so that deque boxes every value
+	@Benchmark
+	public int intStackPushPop(){
+		for(int i=0;i<size;i++){
+			intStack.push(i + 1024);
+		}
+		int sum = 0;
+		while(!intStack.isEmpty()){
+			sum += intStack.pop();
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public int integerDequePushPop(){
+		for(int i=0;i<size;i++){
+			integerDeque.push(i + 1024);
+		}
+		int sum = 0;
+		while(!integerDeque.isEmpty()){
+			sum += integerDeque.pop();
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long longStackPushPop(){
+		for(int i=0;i<size;i++){
+			longStack.push(i + 1024L);
+		}
+		long sum = 0;
+		while(!longStack.isEmpty()){
+			sum += longStack.pop();
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long longDequePushPop(){
+		for(int i=0;i<size;i++){
+			longDeque.push(i + 1024L);
+		}
+		long sum = 0;
+		while(!longDeque.isEmpty()){
+			sum += longDeque.pop();
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public double doubleStackPushPop(){
+		for(int i=0;i<size;i++){
+			doubleStack.push(i * 0.5);
+		}
+		double sum = 0;
+		while(!doubleStack.isEmpty()){
+			sum += doubleStack.pop();
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public double doubleDequePushPop(){
+		for(int i=0;i<size;i++){
+			doubleDeque.push(i * 0.5);
+		}
+		double sum = 0;
+		while(!doubleDeque.isEmpty()){
+			sum += doubleDeque.pop();
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long intStackForEach(){
+		long[] sum = new long[1];
+		filledIntStack.forEach(value -> sum[0] += value);
+		return sum[0];
+	}
+
+	@Benchmark
+	public long integerDequeForEach(){
+		long sum = 0;
+		for(Integer value : filledIntegerDeque){
+			sum += value;
+		}
+		return sum;
+	}
+}
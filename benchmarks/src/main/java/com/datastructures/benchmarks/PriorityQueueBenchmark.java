@@ -0,0 +1,79 @@
+package com.datastructures.benchmarks;
+
+import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.datastructures.nonlinear.PriorityQueue;
+
+/**
+ * Insert followed by delete max on a heap of steady size, on {@link PriorityQueue} with <code>java.util.PriorityQueue</code> in reverse order as baseline.
+ * 
+ * @author Sasi on 19-Oct-2026, 11:55:13 am
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PriorityQueueBenchmark {
+
+	private static final int OPERATIONS = 1 << 16;
+
+	@Param({"1000", "1000000"})
+	int size;
+
+	@Param({"UNIFORM", "SEQUENTIAL"})
+	KeyDistribution distribution;
+
+	private int[] values;
+	private Integer[] boxedValues;
+	private int index;
+
+	private PriorityQueue priorityQueue;
+	private java.util.PriorityQueue<Integer> jdkPriorityQueue;
+
+	@Setup
+	public void setup(){
+		values = distribution.keys(OPERATIONS, Integer.MAX_VALUE, 42);
+		boxedValues = new Integer[OPERATIONS];
+		for(int i=0;i<OPERATIONS;i++){
+			boxedValues[i] = values[i];
+		}
+
+		priorityQueue = new PriorityQueue();
+		jdkPriorityQueue = new java.util.PriorityQueue<>(Collections.reverseOrder());
+
+		Random random = new Random(42);
+		for(int i=0;i<size;i++){
+			int value = random.nextInt();
+			priorityQueue.insert(value);
+			jdkPriorityQueue.add(value);
+		}
+	}
+
+	@Benchmark
+	public int priorityQueue() throws Exception {
+		priorityQueue.insert(values[index++ & (OPERATIONS - 1)]);
+		return priorityQueue.deleteMax();
+	}
+
+	@Benchmark
+	public Integer jdkPriorityQueue(){
+		jdkPriorityQueue.add(boxedValues[index++ & (OPERATIONS - 1)]);
+		return jdkPriorityQueue.poll();
+	}
+}
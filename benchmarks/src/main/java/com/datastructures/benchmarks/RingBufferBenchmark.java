@@ -0,0 +1,123 @@
+package com.datastructures.benchmarks;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.datastructures.linear.RingBuffer;
+import com.datastructures.linear.RingBuffer.ProducerMode;
+import com.datastructures.linear.RingBuffer.WaitStrategy;
+
+/**
+ * Handoff throughput of {@link RingBuffer} between producer and consumer threads, with <code>ArrayBlockingQueue</code> as baseline.
+ * Each group runs producers and one consumer on the same queue. Offers to a full queue and polls of an empty one are counted as operations too, as in any non blocking handoff loop.
+ * 
+ * @author Sasi on 19-Oct-2026, 10:12:40 pm
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RingBufferBenchmark {
+
+	private static final Integer ELEMENT = 42;
+
+	@Param({"1024"})
+	int capacity;
+
+	private RingBuffer<Integer> singleProducer;
+	private RingBuffer<Integer> multiProducer;
+	private ArrayBlockingQueue<Integer> arrayBlockingQueue;
+
+	@Setup
+	public void setup(){
+		singleProducer = new RingBuffer<>(capacity, ProducerMode.SINGLE, WaitStrategy.SPIN);
+		multiProducer = new RingBuffer<>(capacity, ProducerMode.MULTI, WaitStrategy.SPIN);
+		arrayBlockingQueue = new ArrayBlockingQueue<>(capacity);
+	}
+
+	@Benchmark
+	@Group("spscRingBuffer")
+	@GroupThreads(1)
+	public boolean spscOffer(){
+		return singleProducer.offer(ELEMENT);
+	}
+
+	@Benchmark
+	@Group("spscRingBuffer")
+	@GroupThreads(1)
+	public Integer spscPoll(){
+		return singleProducer.poll();
+	}
+
+	@Benchmark
+	@Group("spscArrayBlockingQueue")
+	@GroupThreads(1)
+	public boolean spscQueueOffer(){
+		return arrayBlockingQueue.offer(ELEMENT);
+	}
+
+	@Benchmark
+	@Group("spscArrayBlockingQueue")
+	@GroupThreads(1)
+	public Integer spscQueuePoll(){
+		return arrayBlockingQueue.poll();
+	}
+
+	@Benchmark
+	@Group("mpscRingBuffer")
+	@GroupThreads(3)
+	public boolean mpscOffer(){
+		return multiProducer.offer(ELEMENT);
+	}
+
+	@Benchmark
+	@Group("mpscRingBuffer")
+	@GroupThreads(1)
+	public Integer mpscPoll(){
+		return multiProducer.poll();
+	}
+
+	@Benchmark
+	@Group("mpscArrayBlockingQueue")
+	@GroupThreads(3)
+	public boolean mpscQueueOffer(){
+		return arrayBlockingQueue.offer(ELEMENT);
+	}
+
+	@Benchmark
+	@Group("mpscArrayBlockingQueue")
+	@GroupThreads(1)
+	public Integer mpscQueuePoll(){
+		return arrayBlockingQueue.poll();
+	}
+
+	@Benchmark
+	@Group("mpscRingBufferDrain")
+	@GroupThreads(3)
+	public boolean mpscDrainOffer(){
+		return multiProducer.offer(ELEMENT);
+	}
+
+	@Benchmark
+	@Group("mpscRingBufferDrain")
+	@GroupThreads(1)
+	public int mpscDrain(){
+		return multiProducer.drain(element -> {}, 64);
+	}
+}
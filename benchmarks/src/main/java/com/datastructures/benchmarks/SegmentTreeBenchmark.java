@@ -0,0 +1,81 @@
+package com.datastructures.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.datastructures.nonlinear.ads.SegmentTree;
+
+/**
+ * Range minimum queries on {@link SegmentTree}, with a linear scan over the array as baseline.
+ * 
+ * @author Sasi on 19-Oct-2026, 12:48:31 pm
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SegmentTreeBenchmark {
+
+	private static final int OPERATIONS = 1 << 14;
+
+	//Segment tree array is sized 2n-1, so sizes are powers of two
+	@Param({"1024", "1048576"})
+	int size;
+
+	private int[] array;
+	private int[] lows;
+	private int[] highs;
+	private int index;
+
+	private SegmentTree segmentTree;
+
+	@Setup
+	public void setup(){
+		Random random = new Random(42);
+		array = new int[size];
+		for(int i=0;i<size;i++){
+			array[i] = random.nextInt();
+		}
+
+		segmentTree = new SegmentTree();
+		segmentTree.constructTree(array);
+
+		lows = new int[OPERATIONS];
+		highs = new int[OPERATIONS];
+		for(int i=0;i<OPERATIONS;i++){
+			int a = random.nextInt(size), b = random.nextInt(size);
+			lows[i] = Math.min(a, b);
+			highs[i] = Math.max(a, b);
+		}
+	}
+
+	@Benchmark
+	public int segmentTree(){
+		int i = index++ & (OPERATIONS - 1);
+		return segmentTree.findMinimum(0, 0, size - 1, lows[i], highs[i]);
+	}
+
+	@Benchmark
+	public int linearScan(){
+		int i = index++ & (OPERATIONS - 1);
+		int minimum = Integer.MAX_VALUE;
+		for(int j=lows[i];j<=highs[i];j++){
+			minimum = Math.min(minimum, array[j]);
+		}
+		return minimum;
+	}
+}
@@ -0,0 +1,119 @@
+package com.datastructures.benchmarks;
+
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.datastructures.linear.SkipList;
+
+/**
+ * Mixed read/write workload on {@link SkipList}, with <code>TreeMap</code> and <code>ConcurrentSkipListMap</code> as baselines.
+ * Reads are <code>get</code>, writes alternate between <code>insert</code> and <code>delete</code>.
+ * 
+ * @author Sasi on 19-Oct-2026, 10:52:09 am
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SkipListBenchmark {
+
+	private static final int OPERATIONS = 1 << 16;
+
+	@Param({"10000", "100000"})
+	int size;
+
+	@Param({"UNIFORM", "SEQUENTIAL", "ZIPF"})
+	KeyDistribution distribution;
+
+	@Param({"1.0", "0.9", "0.5"})
+	double readRatio;
+
+	private Integer[] keys;
+	private boolean[] reads;
+	private int index;
+
+	private SkipList<Integer, Integer> skipList;
+	private TreeMap<Integer, Integer> treeMap;
+	private ConcurrentSkipListMap<Integer, Integer> concurrentSkipListMap;
+
+	@Setup
+	public void setup(){
+		Random random = new Random(42);
+		int universe = 2 * size;
+
+		int[] generated = distribution.keys(OPERATIONS, universe, 42);
+		keys = new Integer[OPERATIONS];
+		reads = new boolean[OPERATIONS];
+		for(int i=0;i<OPERATIONS;i++){
+			keys[i] = generated[i];
+			reads[i] = random.nextDouble() < readRatio;
+		}
+
+		skipList = new SkipList<>();
+		treeMap = new TreeMap<>();
+		concurrentSkipListMap = new ConcurrentSkipListMap<>();
+
+		int[] initial = KeyDistribution.shuffledKeys(universe, random);
+		for(int i=0;i<size;i++){
+			skipList.insert(initial[i], initial[i]);
+			treeMap.put(initial[i], initial[i]);
+			concurrentSkipListMap.put(initial[i], initial[i]);
+		}
+	}
+
+	@Benchmark
+	public Integer skipList(){
+		int i = index++ & (OPERATIONS - 1);
+		Integer key = keys[i];
+		if(reads[i]){
+			return skipList.get(key);
+		}
+		if((i & 1) == 0){
+			skipList.insert(key, key);
+			return key;
+		}
+		return skipList.delete(key);
+	}
+
+	@Benchmark
+	public Integer treeMap(){
+		int i = index++ & (OPERATIONS - 1);
+		Integer key = keys[i];
+		if(reads[i]){
+			return treeMap.get(key);
+		}
+		if((i & 1) == 0){
+			return treeMap.put(key, key);
+		}
+		return treeMap.remove(key);
+	}
+
+	@Benchmark
+	public Integer concurrentSkipListMap(){
+		int i = index++ & (OPERATIONS - 1);
+		Integer key = keys[i];
+		if(reads[i]){
+			return concurrentSkipListMap.get(key);
+		}
+		if((i & 1) == 0){
+			return concurrentSkipListMap.put(key, key);
+		}
+		return concurrentSkipListMap.remove(key);
+	}
+}
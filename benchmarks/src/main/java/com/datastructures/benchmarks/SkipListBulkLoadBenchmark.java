@@ -0,0 +1,115 @@
+package com.datastructures.benchmarks;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.datastructures.linear.SkipList;
+
+/**
+ * Building {@link SkipList} from presorted keys with <code>bulkLoad</code> against inserting them one by one,
+ * and merging a sorted batch into an existing list with <code>merge</code> against inserting the batch one by one.
+ * 
+ * @author Sasi on 19-Oct-2026, 6:44:20 pm
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class SkipListBulkLoadBenchmark {
+
+	@Param({"1000000"})
+	int size;
+
+	@Param({"10000"})
+	int batchSize;
+
+	private List<Map.Entry<Integer, Integer>> sorted;
+	private List<Map.Entry<Integer, Integer>> batch;
+
+	/**
+	 * Merge benchmarks change the list, so a fresh list is loaded before every call.
+	 */
+	@State(Scope.Thread)
+	public static class LoadedList{
+		SkipList<Integer, Integer> skipList;
+
+		@Setup(Level.Invocation)
+		public void load(SkipListBulkLoadBenchmark benchmark){
+			skipList = new SkipList<>(benchmark.size);
+			skipList.bulkLoad(benchmark.sorted.iterator());
+		}
+	}
+
+	@Setup(Level.Trial)
+	public void setup(){
+		//Even keys are loaded, batch has odd keys so that every batch key is new
+		sorted = new ArrayList<>(size);
+		for(int i=0;i<size;i++){
+			sorted.add(new AbstractMap.SimpleImmutableEntry<>(2 * i, i));
+		}
+
+		Random random = new Random(42);
+		int[] batchKeys = KeyDistribution.UNIFORM.keys(batchSize, size, 42);
+		Arrays.sort(batchKeys);
+		batch = new ArrayList<>(batchSize);
+		for(int key : batchKeys){
+			batch.add(new AbstractMap.SimpleImmutableEntry<>(2 * key + 1, random.nextInt()));
+		}
+	}
+
+	@Benchmark
+	public SkipList<Integer, Integer> insertSorted(){
+		SkipList<Integer, Integer> list = new SkipList<>(size);
+		for(Map.Entry<Integer, Integer> entry : sorted){
+			list.insert(entry.getKey(), entry.getValue());
+		}
+		return list;
+	}
+
+	@Benchmark
+	public SkipList<Integer, Integer> bulkLoad(){
+		SkipList<Integer, Integer> list = new SkipList<>(size);
+		list.bulkLoad(sorted.iterator());
+		return list;
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@Measurement(iterations = 20)
+	@Warmup(iterations = 5)
+	public SkipList<Integer, Integer> insertBatch(LoadedList loaded){
+		for(Map.Entry<Integer, Integer> entry : batch){
+			loaded.skipList.insert(entry.getKey(), entry.getValue());
+		}
+		return loaded.skipList;
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@Measurement(iterations = 20)
+	@Warmup(iterations = 5)
+	public SkipList<Integer, Integer> mergeBatch(LoadedList loaded){
+		loaded.skipList.merge(batch.iterator());
+		return loaded.skipList;
+	}
+}
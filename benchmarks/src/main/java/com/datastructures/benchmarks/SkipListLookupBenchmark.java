@@ -0,0 +1,84 @@
+package com.datastructures.benchmarks;
+
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.datastructures.linear.SkipList;
+
+/**
+ * <code>get</code> on large {@link SkipList}, with <code>TreeMap</code> and <code>ConcurrentSkipListMap</code> as baselines. Half of the lookups miss.
+ * Allocations per insert can be compared by running {@link SkipListBenchmark} with <code>-prof gc</code>.
+ * 
+ * @author Sasi on 19-Oct-2026, 4:18:52 pm
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SkipListLookupBenchmark {
+
+	private static final int OPERATIONS = 1 << 20;
+
+	@Param({"1000000", "10000000"})
+	int size;
+
+	private Integer[] lookups;
+	private int index;
+
+	private SkipList<Integer, Integer> skipList;
+	private TreeMap<Integer, Integer> treeMap;
+	private ConcurrentSkipListMap<Integer, Integer> concurrentSkipListMap;
+
+	@Setup
+	public void setup(){
+		Random random = new Random(42);
+
+		//Even keys are inserted, so odd lookups miss
+		int[] initial = KeyDistribution.shuffledKeys(size, random);
+		skipList = new SkipList<>(size);
+		treeMap = new TreeMap<>();
+		concurrentSkipListMap = new ConcurrentSkipListMap<>();
+		for(int key : initial){
+			Integer boxed = 2 * key;
+			skipList.insert(boxed, boxed);
+			treeMap.put(boxed, boxed);
+			concurrentSkipListMap.put(boxed, boxed);
+		}
+
+		lookups = new Integer[OPERATIONS];
+		for(int i=0;i<OPERATIONS;i++){
+			lookups[i] = random.nextInt(2 * size);
+		}
+	}
+
+	@Benchmark
+	public Integer skipList(){
+		return skipList.get(lookups[index++ & (OPERATIONS - 1)]);
+	}
+
+	@Benchmark
+	public Integer treeMap(){
+		return treeMap.get(lookups[index++ & (OPERATIONS - 1)]);
+	}
+
+	@Benchmark
+	public Integer concurrentSkipListMap(){
+		return concurrentSkipListMap.get(lookups[index++ & (OPERATIONS - 1)]);
+	}
+}
@@ -0,0 +1,93 @@
+package com.datastructures.benchmarks;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.datastructures.linear.SkipList;
+
+/**
+ * <code>rank</code> and <code>getByIndex</code> of {@link SkipList}, with a linear walk of level 0 through its iterator as baseline.
+ * 
+ * @author Sasi on 19-Oct-2026, 5:37:09 pm
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SkipListRankBenchmark {
+
+	private static final int OPERATIONS = 1 << 14;
+
+	@Param({"1000", "100000"})
+	int size;
+
+	private Integer[] keys;
+	private int[] indexes;
+	private int index;
+
+	private SkipList<Integer, Integer> skipList;
+
+	@Setup
+	public void setup(){
+		Random random = new Random(42);
+		skipList = new SkipList<>(size);
+		for(int key : KeyDistribution.shuffledKeys(size, random)){
+			skipList.insert(key, key);
+		}
+
+		keys = new Integer[OPERATIONS];
+		indexes = new int[OPERATIONS];
+		for(int i=0;i<OPERATIONS;i++){
+			keys[i] = random.nextInt(size);
+			indexes[i] = random.nextInt(size);
+		}
+	}
+
+	@Benchmark
+	public int rank(){
+		return skipList.rank(keys[index++ & (OPERATIONS - 1)]);
+	}
+
+	@Benchmark
+	public int linearRank(){
+		Integer key = keys[index++ & (OPERATIONS - 1)];
+		int rank = 0;
+		for(Iterator<Map.Entry<Integer, Integer>> iterator = skipList.iterator(); iterator.hasNext(); rank++){
+			if(iterator.next().getKey().compareTo(key) >= 0){
+				break;
+			}
+		}
+		return rank;
+	}
+
+	@Benchmark
+	public Map.Entry<Integer, Integer> getByIndex(){
+		return skipList.getByIndex(indexes[index++ & (OPERATIONS - 1)]);
+	}
+
+	@Benchmark
+	public Map.Entry<Integer, Integer> linearGetByIndex(){
+		int target = indexes[index++ & (OPERATIONS - 1)];
+		Iterator<Map.Entry<Integer, Integer>> iterator = skipList.iterator();
+		for(int i=0;i<target;i++){
+			iterator.next();
+		}
+		return iterator.next();
+	}
+}
@@ -0,0 +1,71 @@
+package com.datastructures.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.datastructures.strings.SuffixArray;
+
+/**
+ * Pattern search on {@link SuffixArray}, with <code>String.indexOf</code> as baseline. Patterns are substrings of the text.
+ * 
+ * @author Sasi on 19-Oct-2026, 11:38:50 am
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SuffixArrayBenchmark {
+
+	private static final int OPERATIONS = 1 << 12;
+
+	@Param({"1000", "5000"})
+	int textLength;
+
+	@Param({"4", "16"})
+	int patternLength;
+
+	private String text;
+	private String[] patterns;
+	private int index;
+
+	@Setup
+	public void setup(){
+		Random random = new Random(42);
+		StringBuilder builder = new StringBuilder(textLength);
+		for(int i=0;i<textLength;i++){
+			builder.append((char) ('a' + random.nextInt(26)));
+		}
+		text = builder.toString();
+		SuffixArray.constructSuffixArray(text);
+
+		patterns = new String[OPERATIONS];
+		for(int i=0;i<OPERATIONS;i++){
+			int start = random.nextInt(textLength - patternLength);
+			patterns[i] = text.substring(start, start + patternLength);
+		}
+	}
+
+	@Benchmark
+	public int suffixArray(){
+		return SuffixArray.search(patterns[index++ & (OPERATIONS - 1)]);
+	}
+
+	@Benchmark
+	public int indexOf(){
+		return text.indexOf(patterns[index++ & (OPERATIONS - 1)]);
+	}
+}
@@ -0,0 +1,92 @@
+package com.datastructures.benchmarks;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.datastructures.linear.ads.Trie;
+
+/**
+ * Word lookups on {@link Trie}, with <code>HashSet</code> and <code>TreeSet</code> as baselines. 
+ * Words are random lowercase strings, <code>hitRatio</code> of lookups are for inserted words and the rest are for words which were never inserted.
+ * 
+ * @author Sasi on 19-Oct-2026, 11:20:36 am
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TrieBenchmark {
+
+	private static final int OPERATIONS = 1 << 14;
+
+	@Param({"10000", "100000"})
+	int size;
+
+	@Param({"1.0", "0.5"})
+	double hitRatio;
+
+	private String[] lookups;
+	private int index;
+
+	private HashSet<String> hashSet;
+	private TreeSet<String> treeSet;
+
+	@Setup
+	public void setup(){
+		Random random = new Random(42);
+		String[] words = new String[size];
+		hashSet = new HashSet<>();
+		treeSet = new TreeSet<>();
+		for(int i=0;i<size;i++){
+			words[i] = randomWord(random);
+			Trie.insert(words[i]);
+			hashSet.add(words[i]);
+			treeSet.add(words[i]);
+		}
+
+		lookups = new String[OPERATIONS];
+		for(int i=0;i<OPERATIONS;i++){
+			lookups[i] = random.nextDouble() < hitRatio ? words[random.nextInt(size)] : randomWord(random);
+		}
+	}
+
+	private static String randomWord(Random random){
+		int length = 4 + random.nextInt(12);
+		StringBuilder builder = new StringBuilder(length);
+		for(int i=0;i<length;i++){
+			builder.append((char) ('a' + random.nextInt(26)));
+		}
+		return builder.toString();
+	}
+
+	@Benchmark
+	public boolean trie(){
+		return Trie.search(lookups[index++ & (OPERATIONS - 1)]);
+	}
+
+	@Benchmark
+	public boolean hashSet(){
+		return hashSet.contains(lookups[index++ & (OPERATIONS - 1)]);
+	}
+
+	@Benchmark
+	public boolean treeSet(){
+		return treeSet.contains(lookups[index++ & (OPERATIONS - 1)]);
+	}
+}
@@ -0,0 +1,96 @@
+package com.datastructures.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.datastructures.linear.SingleLinkedList;
+import com.datastructures.linear.UnrolledLinkedList;
+
+/**
+ * Random <code>get(index)</code> on {@link UnrolledLinkedList} against {@link SingleLinkedList}, and a full scan of {@link UnrolledLinkedList} against <code>ArrayList</code>,
+ * which is the lower bound for reading elements one after another.
+ * 
+ * @author Sasi on 20-Oct-2026, 9:47:21 am
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UnrolledLinkedListBenchmark {
+
+	@Param({"100000"})
+	int size;
+
+	@Param({"64"})
+	int chunkCapacity;
+
+	private SingleLinkedList<Integer> singleLinkedList;
+	private UnrolledLinkedList<Integer> unrolledLinkedList;
+	private ArrayList<Integer> arrayList;
+	private int[] indexes;
+	private int next;
+
+	@Setup
+	public void setup(){
+		singleLinkedList = new SingleLinkedList<>();
+		unrolledLinkedList = new UnrolledLinkedList<>(chunkCapacity);
+		arrayList = new ArrayList<>(size);
+		for(int i=0;i<size;i++){
+			singleLinkedList.add(i);
+			unrolledLinkedList.add(i);
+			arrayList.add(i);
+		}
+		Random random = new Random(42);
+		indexes = new int[1 << 16];
+		for(int i=0;i<indexes.length;i++){
+			indexes[i] = random.nextInt(size);
+		}
+	}
+
+	private int nextIndex(){
+		return indexes[next++ & (indexes.length - 1)];
+	}
+
+	@Benchmark
+	public Integer singleLinkedListGet(){
+		return singleLinkedList.get(nextIndex());
+	}
+
+	@Benchmark
+	public Integer unrolledLinkedListGet(){
+		return unrolledLinkedList.get(nextIndex());
+	}
+
+	@Benchmark
+	public long unrolledLinkedListScan(){
+		long sum = 0;
+		for(Integer value : unrolledLinkedList){
+			sum += value;
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long arrayListScan(){
+		long sum = 0;
+		for(Integer value : arrayList){
+			sum += value;
+		}
+		return sum;
+	}
+}
@@ -0,0 +1,632 @@
+package com.datastructures.linear;
+
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+import java.util.function.ToIntBiFunction;
+
+/**
+ * <p><code>CacheMap</code> is a bounded cache built on top of {@link HashMap}. Total weight of entries never exceeds maximum weight;
+ * once it does, entries are evicted according to selected {@link EvictionPolicy}. Entries can also expire after write (per entry time to live) and after access.</p>
+ *
+ * <p>Every entry is kept in a doubly linked access order list along with the map, so finding an eviction victim is O(1) and never scans the map.</p>
+ * <ul>
+ * 	<li><b>LRU</b> - single list, least recently used entry at head is evicted.</li>
+ * 	<li><b>W_TINY_LFU</b> - new entries go into a small LRU window (1% of weight). Entries leaving window compete with the head of main probation list,
+ * 		and the one which was accessed more often, as estimated by a count-min sketch, stays. Entries accessed again in probation move into protected list (80% of main weight).
+ * 		This keeps frequently used entries even when a burst of one time keys comes in.</li>
+ * </ul>
+ *
+ * <p>Expired entries are never returned. They are removed lazily when read, and every write also removes a few expired entries, so cleanup cost is spread across writes.
+ * Hit, miss and eviction counts are tracked for monitoring.</p>
+ *
+ * @author Sasi on 18-Oct-2026, 8:35:52 pm
+ */
+public class CacheMap<K, V> {
+
+	public enum EvictionPolicy{LRU, W_TINY_LFU}
+
+	//Maximum number of expired entries removed per write
+	private static final int CLEANUP_LIMIT = 16;
+
+	private static final int WINDOW = 0, PROBATION = 1, PROTECTED = 2;
+
+	private final HashMap<K, Node<K, V>> map;
+	private final EvictionPolicy policy;
+	private final long maximumWeight;
+	private final ToIntBiFunction<? super K, ? super V> weigher;
+	private final long expireAfterWriteMillis;
+	private final long expireAfterAccessNanos;
+	private final LongSupplier ticker;
+
+	//LRU policy uses only window list
+	private final AccessList<K, V> window = new AccessList<>();
+	private final AccessList<K, V> probation = new AccessList<>();
+	private final AccessList<K, V> protectedList = new AccessList<>();
+	private final long maximumWindowWeight;
+	private final long maximumProtectedWeight;
+	private final FrequencySketch sketch;
+
+	//Nodes with a write deadline, earliest first. A node is in it at most once and leaves it when removed
+	private final ExpirationQueue<K, V> expirations;
+
+	private long hitCount;
+	private long missCount;
+	private long evictionCount;
+
+	/**
+	 * Creates a cache in which every entry weighs 1 and entries never expire, so maximum weight is maximum number of entries.
+	 *
+	 * @param maximumWeight
+	 * @param policy
+	 */
+	public CacheMap(long maximumWeight, EvictionPolicy policy) {
+		this(maximumWeight, policy, (k, v) -> 1, 0, 0);
+	}
+
+	/**
+	 *
+	 * @param maximumWeight
+	 * @param policy
+	 * @param weigher returns weight of an entry, must not be negative
+	 * @param expireAfterWriteMillis default time to live of an entry after it is put, 0 if entries shouldn't expire after write
+	 * @param expireAfterAccessMillis time after which an entry which is not read or written expires, 0 if entries shouldn't expire after access
+	 */
+	public CacheMap(long maximumWeight, EvictionPolicy policy, ToIntBiFunction<? super K, ? super V> weigher,
+			long expireAfterWriteMillis, long expireAfterAccessMillis) {
+		this(maximumWeight, policy, weigher, expireAfterWriteMillis, expireAfterAccessMillis, System::nanoTime);
+	}
+
+	CacheMap(long maximumWeight, EvictionPolicy policy, ToIntBiFunction<? super K, ? super V> weigher,
+			long expireAfterWriteMillis, long expireAfterAccessMillis, LongSupplier ticker) {
+		super();
+
+		if(maximumWeight <= 0 || expireAfterWriteMillis < 0 || expireAfterAccessMillis < 0){
+			throw new IllegalArgumentException("Maximum weight must be positive and expiry times can't be negative");
+		}
+
+		this.map = new HashMap<>();
+		this.policy = policy;
+		this.maximumWeight = maximumWeight;
+		this.weigher = weigher;
+		this.expireAfterWriteMillis = expireAfterWriteMillis;
+		this.expireAfterAccessNanos = nanosOf(expireAfterAccessMillis);
+		this.ticker = ticker;
+		this.expirations = new ExpirationQueue<>();
+
+		this.maximumWindowWeight = Math.max(1, maximumWeight / 100);
+		this.maximumProtectedWeight = (long) ((maximumWeight - maximumWindowWeight) * 0.8);
+		this.sketch = policy == EvictionPolicy.W_TINY_LFU ? new FrequencySketch(maximumWeight) : null;
+	}
+
+	static final class Node<K, V>{
+		K key;
+		V value;
+		int weight;
+		int list;
+		long accessTime;
+
+		//Write deadline, Long.MAX_VALUE if entry doesn't expire after write
+		long expireAt;
+		//Index in expiration queue, -1 if node isn't in it
+		int expirationIndex = -1;
+		boolean removed;
+		Node<K, V> prev;
+		Node<K, V> next;
+
+		public Node(K key, V value) {
+			super();
+			this.key = key;
+			this.value = value;
+		}
+
+		@Override
+		public String toString() {
+			return String.valueOf(value);
+		}
+	}
+
+	/**
+	 * Doubly linked list with sentinel head, least recently accessed node comes first.
+	 */
+	static final class AccessList<K, V>{
+		final Node<K, V> head = new Node<>(null, null);
+		long weight;
+
+		AccessList() {
+			head.prev = head;
+			head.next = head;
+		}
+
+		boolean isEmpty(){
+			return head.next == head;
+		}
+
+		Node<K, V> first(){
+			return isEmpty() ? null : head.next;
+		}
+
+		Node<K, V> last(){
+			return isEmpty() ? null : head.prev;
+		}
+
+		void addLast(Node<K, V> node){
+			node.prev = head.prev;
+			node.next = head;
+			head.prev.next = node;
+			head.prev = node;
+			weight += node.weight;
+		}
+
+		void remove(Node<K, V> node){
+			node.prev.next = node.next;
+			node.next.prev = node.prev;
+			node.prev = null;
+			node.next = null;
+			weight -= node.weight;
+		}
+
+		void moveToEnd(Node<K, V> node){
+			remove(node);
+			addLast(node);
+		}
+	}
+
+	/**
+	 * Binary min heap of nodes ordered by write deadline. Every node keeps its index in the heap, so a node is found and removed in O(log n) when it's rewritten or removed,
+	 * and the heap never holds more than one record per entry. Deadlines are compared by subtraction, same as ticker values.
+	 */
+	static final class ExpirationQueue<K, V>{
+		@SuppressWarnings("unchecked")
+		private Node<K, V>[] heap = (Node<K, V>[]) new Node<?, ?>[16];
+		private int size;
+
+		boolean isEmpty(){
+			return size == 0;
+		}
+
+		Node<K, V> peek(){
+			return size == 0 ? null : heap[0];
+		}
+
+		/**
+		 * Adds node, or moves it to its place if it's already in queue and its deadline changed.
+		 */
+		void offer(Node<K, V> node){
+			if(node.expirationIndex >= 0){
+				siftDown(siftUp(node.expirationIndex));
+				return;
+			}
+			if(size == heap.length){
+				heap = Arrays.copyOf(heap, size * 2);
+			}
+			heap[size] = node;
+			node.expirationIndex = size;
+			siftUp(size++);
+		}
+
+		void remove(Node<K, V> node){
+			int index = node.expirationIndex;
+			if(index < 0){
+				return;
+			}
+			node.expirationIndex = -1;
+			Node<K, V> last = heap[--size];
+			heap[size] = null;
+			if(index < size){
+				heap[index] = last;
+				last.expirationIndex = index;
+				siftDown(siftUp(index));
+			}
+		}
+
+		private static boolean before(Node<?, ?> node1, Node<?, ?> node2){
+			return node1.expireAt - node2.expireAt < 0;
+		}
+
+		/**
+		 * @return index node ended at
+		 */
+		private int siftUp(int index){
+			Node<K, V> node = heap[index];
+			while(index > 0){
+				int parent = (index - 1) >>> 1;
+				if(!before(node, heap[parent])){
+					break;
+				}
+				heap[index] = heap[parent];
+				heap[index].expirationIndex = index;
+				index = parent;
+			}
+			heap[index] = node;
+			node.expirationIndex = index;
+			return index;
+		}
+
+		private void siftDown(int index){
+			Node<K, V> node = heap[index];
+			while(true){
+				int child = 2 * index + 1;
+				if(child >= size){
+					break;
+				}
+				if(child + 1 < size && before(heap[child + 1], heap[child])){
+					child++;
+				}
+				if(!before(heap[child], node)){
+					break;
+				}
+				heap[index] = heap[child];
+				heap[index].expirationIndex = index;
+				index = child;
+			}
+			heap[index] = node;
+			node.expirationIndex = index;
+		}
+	}
+
+	/**
+	 * <p>Count-min sketch which estimates how often a key was accessed. It keeps 4 rows of small counters, a key increments one counter in each row
+	 * and its frequency is the minimum of those counters. Counters are capped at 15 and all of them are halved after a sample period,
+	 * so that old popularity fades away.</p>
+	 */
+	static final class FrequencySketch{
+		private static final int[] SEEDS = {0x97cb3127, 0xb492b66f, 0x9ae16a3b, 0xc3a5c85c};
+		private static final int MAXIMUM_COUNT = 15;
+
+		private final byte[][] table;
+		private final int mask;
+		private final int samplePeriod;
+		private int additions;
+
+		FrequencySketch(long maximumSize) {
+			int width = 16;
+			while(width < maximumSize && width < (1 << 24)){
+				width <<= 1;
+			}
+
+			table = new byte[SEEDS.length][width];
+			mask = width - 1;
+			samplePeriod = 10 * width;
+		}
+
+		void increment(Object key){
+			int hash = spread(key);
+			boolean added = false;
+			for(int i=0;i<SEEDS.length;i++){
+				int index = indexOf(hash, i);
+				if(table[i][index] < MAXIMUM_COUNT){
+					table[i][index]++;
+					added = true;
+				}
+			}
+
+			if(added && ++additions == samplePeriod){
+				reset();
+			}
+		}
+
+		int frequency(Object key){
+			int hash = spread(key);
+			int frequency = MAXIMUM_COUNT;
+			for(int i=0;i<SEEDS.length;i++){
+				frequency = Math.min(frequency, table[i][indexOf(hash, i)]);
+			}
+			return frequency;
+		}
+
+		private int indexOf(int hash, int row){
+			int h = hash * SEEDS[row];
+			return (h ^ (h >>> 17)) & mask;
+		}
+
+		private void reset(){
+			for(byte[] row : table){
+				for(int i=0;i<row.length;i++){
+					row[i] >>= 1;
+				}
+			}
+			additions /= 2;
+		}
+
+		private static int spread(Object key){
+			return HashMap.MURMUR3_SPREADER.applyAsInt(null == key ? 0 : key.hashCode());
+		}
+	}
+
+	/**
+	 *
+	 * @param key
+	 * @return value of the key, or null if key doesn't exist or is expired
+	 */
+	public V get(K key){
+		long now = ticker.getAsLong();
+		if(null != sketch){
+			sketch.increment(key);
+		}
+
+		Node<K, V> node = map.get(key);
+		if(null == node){
+			missCount++;
+			return null;
+		}
+
+		if(isExpired(node, now)){
+			removeNode(node);
+			missCount++;
+			return null;
+		}
+
+		hitCount++;
+		onAccess(node, now);
+		return node.value;
+	}
+
+	/**
+	 * Puts value with default time to live.
+	 *
+	 * @param key
+	 * @param value
+	 * @return previous value of the key, or null if key didn't exist or was expired
+	 */
+	public V put(K key, V value){
+		return put(key, value, expireAfterWriteMillis);
+	}
+
+	/**
+	 *
+	 * @param key
+	 * @param value
+	 * @param timeToLiveMillis time after which this entry expires, 0 if it shouldn't expire after write
+	 * @return previous value of the key, or null if key didn't exist or was expired
+	 */
+	public V put(K key, V value, long timeToLiveMillis){
+		if(null == value){
+			throw new NullPointerException("Null values are not allowed");
+		}
+		if(timeToLiveMillis < 0){
+			throw new IllegalArgumentException("Time to live can't be negative: " + timeToLiveMillis);
+		}
+
+		long now = ticker.getAsLong();
+		cleanUp(now, CLEANUP_LIMIT);
+
+		int weight = weigher.applyAsInt(key, value);
+		if(weight < 0){
+			throw new IllegalArgumentException("Weight can't be negative: " + weight);
+		}
+
+		V oldValue = null;
+		Node<K, V> node = map.get(key);
+		if(null != node && isExpired(node, now)){
+			removeNode(node);
+			node = null;
+		}
+
+		if(null != node){
+			oldValue = node.value;
+			node.value = value;
+			listOf(node).weight += weight - node.weight;
+			node.weight = weight;
+			onAccess(node, now);
+		}else{
+			node = new Node<>(key, value);
+			node.weight = weight;
+			node.accessTime = now;
+			node.list = WINDOW;
+			map.putValue(key, node);
+			window.addLast(node);
+			if(null != sketch){
+				sketch.increment(key);
+			}
+		}
+
+		node.expireAt = timeToLiveMillis == 0 ? Long.MAX_VALUE : deadline(now, nanosOf(timeToLiveMillis));
+		if(node.expireAt != Long.MAX_VALUE){
+			expirations.offer(node);
+		}else{
+			expirations.remove(node);
+		}
+
+		evict();
+		return oldValue;
+	}
+
+	/**
+	 *
+	 * @param key
+	 * @return removed value, or null if key didn't exist or was expired
+	 */
+	public V remove(K key){
+		Node<K, V> node = map.get(key);
+		if(null == node){
+			return null;
+		}
+
+		removeNode(node);
+		return isExpired(node, ticker.getAsLong()) ? null : node.value;
+	}
+
+	/**
+	 * Number of entries, including expired entries which are not cleaned up yet.
+	 *
+	 * @return
+	 */
+	public int size(){
+		return map.size();
+	}
+
+	public boolean isEmpty(){
+		return map.isEmpty();
+	}
+
+	public long weightedSize(){
+		return window.weight + probation.weight + protectedList.weight;
+	}
+
+	/**
+	 * Removes all expired entries.
+	 */
+	public void cleanUp(){
+		cleanUp(ticker.getAsLong(), Integer.MAX_VALUE);
+	}
+
+	public long hitCount(){
+		return hitCount;
+	}
+
+	public long missCount(){
+		return missCount;
+	}
+
+	public long evictionCount(){
+		return evictionCount;
+	}
+
+	public double hitRate(){
+		long requests = hitCount + missCount;
+		return requests == 0 ? 1.0 : (double) hitCount / requests;
+	}
+
+	//Saturates at Long.MAX_VALUE, which is treated as never expiring anyway
+	private static long nanosOf(long millis){
+		return millis > Long.MAX_VALUE / 1000000 ? Long.MAX_VALUE : millis * 1000000;
+	}
+
+	/**
+	 * @return now + nanos, or Long.MAX_VALUE (never) if that overflows
+	 */
+	private static long deadline(long now, long nanos){
+		long deadline = now + nanos;
+		return ((now ^ deadline) & (nanos ^ deadline)) < 0 ? Long.MAX_VALUE : deadline;
+	}
+
+	//Long.MAX_VALUE is checked before subtracting, since MAX_VALUE - now overflows for a negative ticker
+	private boolean isExpired(Node<K, V> node, long now){
+		return (node.expireAt != Long.MAX_VALUE && node.expireAt - now <= 0)
+				|| (expireAfterAccessNanos > 0 && now - node.accessTime >= expireAfterAccessNanos);
+	}
+
+	private void onAccess(Node<K, V> node, long now){
+		node.accessTime = now;
+
+		if(policy == EvictionPolicy.LRU || node.list != PROBATION){
+			listOf(node).moveToEnd(node);
+			return;
+		}
+
+		//Second access in probation promotes entry into protected list, and protected overflow goes back to probation
+		probation.remove(node);
+		node.list = PROTECTED;
+		protectedList.addLast(node);
+
+		while(protectedList.weight > maximumProtectedWeight && protectedList.first() != node){
+			Node<K, V> demoted = protectedList.first();
+			protectedList.remove(demoted);
+			demoted.list = PROBATION;
+			probation.addLast(demoted);
+		}
+	}
+
+	/**
+	 * Evicts entries until total weight is within maximum weight. Each eviction is O(1).
+	 */
+	private void evict(){
+		if(policy == EvictionPolicy.LRU){
+			while(window.weight > maximumWeight){
+				evictNode(window.first());
+			}
+			return;
+		}
+
+		//Entries leaving window become candidates at tail of probation
+		while(window.weight > maximumWindowWeight){
+			Node<K, V> candidate = window.first();
+			window.remove(candidate);
+			candidate.list = PROBATION;
+			probation.addLast(candidate);
+		}
+
+		while(weightedSize() > maximumWeight){
+			Node<K, V> victim = probation.first();
+			Node<K, V> candidate = probation.last();
+
+			if(null == victim){
+				evictNode(protectedList.isEmpty() ? window.first() : protectedList.first());
+			}else if(victim == candidate){
+				evictNode(victim);
+			}else if(sketch.frequency(candidate.key) > sketch.frequency(victim.key)){
+				evictNode(victim);
+			}else{
+				evictNode(candidate);
+			}
+		}
+	}
+
+	private void evictNode(Node<K, V> node){
+		removeNode(node);
+		evictionCount++;
+	}
+
+	private void removeNode(Node<K, V> node){
+		map.remove(node.key);
+		listOf(node).remove(node);
+		expirations.remove(node);
+		node.removed = true;
+	}
+
+	private AccessList<K, V> listOf(Node<K, V> node){
+		return node.list == WINDOW ? window : (node.list == PROBATION ? probation : protectedList);
+	}
+
+	/**
+	 * Removes at most <code>limit</code> expired entries from head of write deadline queue and from head of each access list.
+	 */
+	private void cleanUp(long now, int limit){
+		for(int i=0;i<limit && !expirations.isEmpty() && expirations.peek().expireAt - now <= 0;i++){
+			removeNode(expirations.peek());
+		}
+
+		if(expireAfterAccessNanos > 0){
+			cleanUpAccessList(window, now, limit);
+			cleanUpAccessList(probation, now, limit);
+			cleanUpAccessList(protectedList, now, limit);
+		}
+	}
+
+	private void cleanUpAccessList(AccessList<K, V> list, long now, int limit){
+		for(int i=0;i<limit && !list.isEmpty() && isExpired(list.first(), now);i++){
+			removeNode(list.first());
+		}
+	}
+
+	@Override
+	public String toString() {
+		return map.toString();
+	}
+
+	public static void main(String[] args) throws InterruptedException {
+		CacheMap<Integer, String> lru = new CacheMap<>(3, EvictionPolicy.LRU);
+		lru.put(1, "one");
+		lru.put(2, "two");
+		lru.put(3, "three");
+		lru.get(1);
+		lru.put(4, "four");
+		System.out.println("LRU after evicting least recently used key 2: " + lru + ", evictions: " + lru.evictionCount());
+
+		//Scan of one time keys shouldn't push out popular keys
+		CacheMap<Integer, Integer> lfu = new CacheMap<>(100, EvictionPolicy.W_TINY_LFU);
+		for(int i=0;i<100000;i++){
+			int key = i % 2 == 0 ? i % 50 : i;
+			if(null == lfu.get(key)){
+				lfu.put(key, key);
+			}
+		}
+		System.out.println("W-TinyLFU hit rate: " + lfu.hitRate() + ", evictions: " + lfu.evictionCount());
+
+		CacheMap<String, String> expiring = new CacheMap<>(10, EvictionPolicy.LRU, (k, v) -> 1, 0, 0);
+		expiring.put("session", "abc", 50);
+		System.out.println("Before expiry: " + expiring.get("session"));
+		Thread.sleep(100);
+		System.out.println("After expiry: " + expiring.get("session") + ", hits: " + expiring.hitCount() + ", misses: " + expiring.missCount());
+	}
+}
@@ -0,0 +1,207 @@
+package com.datastructures.linear;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+/**
+ * <p><code>ConcurrentDisjointSets</code> is a thread safe variant of {@link IntDisjointSets} for a fixed number of elements. Any number of threads can call <code>union</code> and <code>find</code> at the same time without locking.</p>
+ *
+ * <p>Parents are kept in an {@link AtomicIntegerArray}. Union links a root under another root with a single compare and set, which fails if some other thread linked it first, and then union retries from the new roots.
+ * Ranks can't be updated together with parent in one compare and set, so roots are linked by random priority instead: every element gets a fixed pseudo random priority from its id
+ * and the root with lower priority goes under the other. This keeps trees as shallow as union by rank in expectation, and always links towards higher priority, so no cycle can be formed.</p>
+ *
+ * <p>Find does path splitting, every visited element is pointed to its grandparent with a compare and set. A failed compare and set is ignored, it only means some other thread already shortened the path.</p>
+ *
+ * @author Sasi on 19-Oct-2026, 8:05:51 pm
+ */
+public class ConcurrentDisjointSets {
+
+	private final AtomicIntegerArray parent;
+
+	/**
+	 * Creates <code>size</code> elements, each one in its own set.
+	 */
+	public ConcurrentDisjointSets(int size) {
+		super();
+		if(size < 0){
+			throw new IllegalArgumentException("Size can't be negative: " + size);
+		}
+		parent = new AtomicIntegerArray(size);
+		for(int i=0;i<size;i++){
+			parent.set(i, i);
+		}
+	}
+
+	//Multiplying by odd constant and xor shift are both invertible, so no two elements get the same priority
+	private static int priority(int element){
+		return OpenAddressingHashMap.mix(element);
+	}
+
+	/**
+	 * @param element
+	 * @return root of the set containing element
+	 */
+	public int find(int element){
+		checkElement(element);
+		while(true){
+			int elementParent = parent.get(element);
+			if(elementParent == element){
+				return element;
+			}
+			int grandParent = parent.get(elementParent);
+			if(elementParent != grandParent){
+				parent.compareAndSet(element, elementParent, grandParent);
+			}
+			element = elementParent;
+		}
+	}
+
+	/**
+	 * Links root with lower priority under the other root. If that root isn't a root anymore when compare and set runs, roots are found again.
+	 * @param element1
+	 * @param element2
+	 * @return true if this call merged two different sets
+	 */
+	public boolean union(int element1, int element2){
+		while(true){
+			int root1 = find(element1);
+			int root2 = find(element2);
+			if(root1 == root2){
+				return false;
+			}
+			if(priority(root1) > priority(root2)){
+				int root = root1;
+				root1 = root2;
+				root2 = root;
+			}
+			if(parent.compareAndSet(root1, root1, root2)){
+				return true;
+			}
+			element1 = root1;
+			element2 = root2;
+		}
+	}
+
+	/**
+	 * Both elements are in different sets only if first root is still a root after finding the second one, otherwise a union happened in between and it's checked again.
+	 */
+	public boolean connected(int element1, int element2){
+		while(true){
+			int root1 = find(element1);
+			int root2 = find(element2);
+			if(root1 == root2){
+				return true;
+			}
+			if(parent.get(root1) == root1){
+				return false;
+			}
+			element1 = root1;
+			element2 = root2;
+		}
+	}
+
+	/**
+	 * @return number of elements
+	 */
+	public int size(){
+		return parent.length();
+	}
+
+	private void checkElement(int element){
+		if(element < 0 || element >= parent.length()){
+			throw new IndexOutOfBoundsException("Element: " + element + ", size: " + parent.length());
+		}
+	}
+
+	/**
+	 * Finds connected components of a graph. Edges are processed in parallel in the fork join pool the call runs in (common pool by default), and then roots are found in parallel.
+	 * <p>Edge i goes from <code>sources[i]</code> to <code>targets[i]</code>. Two arrays are used instead of an array of pairs so that hundreds of millions of edges don't need an object each.</p>
+	 *
+	 * @param elementCount number of vertices
+	 * @param sources
+	 * @param targets
+	 * @return root of the component for every vertex, vertices in the same component get the same value
+	 */
+	public static int[] components(int elementCount, int[] sources, int[] targets){
+		if(sources.length != targets.length){
+			throw new IllegalArgumentException("Sources and targets have different lengths: " + sources.length + ", " + targets.length);
+		}
+
+		ConcurrentDisjointSets sets = new ConcurrentDisjointSets(elementCount);
+		IntStream.range(0, sources.length).parallel().forEach(i -> sets.union(sources[i], targets[i]));
+
+		int[] components = new int[elementCount];
+		IntStream.range(0, elementCount).parallel().forEach(i -> components[i] = sets.find(i));
+		return components;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("[");
+		for(int i=0;i<parent.length();i++){
+			builder.append(i).append(" -> ").append(find(i));
+			if(i < parent.length() - 1){
+				builder.append(", ");
+			}
+		}
+		builder.append("]");
+		return builder.toString();
+	}
+
+	/**
+	 * Random graph components from parallel helper are checked against sequential {@link IntDisjointSets}.
+	 */
+	public static void main(String[] args) {
+		ConcurrentDisjointSets sets = new ConcurrentDisjointSets(8);
+		sets.union(0, 1);
+		sets.union(2, 3);
+		sets.union(1, 3);
+		sets.union(5, 6);
+		System.out.println(sets);
+		System.out.println("0 and 2 connected: " + sets.connected(0, 2));
+		System.out.println("0 and 5 connected: " + sets.connected(0, 5));
+
+		int vertices = 1000000, edges = 800000;
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		int[] sources = new int[edges];
+		int[] targets = new int[edges];
+		for(int i=0;i<edges;i++){
+			sources[i] = random.nextInt(vertices);
+			targets[i] = random.nextInt(vertices);
+		}
+
+		int[] components = components(vertices, sources, targets);
+
+		IntDisjointSets expected = new IntDisjointSets(vertices);
+		for(int i=0;i<edges;i++){
+			expected.union(sources[i], targets[i]);
+		}
+		//Same partition if both map every pair of vertices in the same way, checking each vertex against the first vertex of its expected set
+		int[] firstOfSet = new int[vertices];
+		Arrays.fill(firstOfSet, -1);
+		boolean matched = true;
+		for(int i=0;i<vertices;i++){
+			int root = expected.find(i);
+			if(firstOfSet[root] < 0){
+				firstOfSet[root] = i;
+			}
+			matched &= components[i] == components[firstOfSet[root]];
+		}
+		int roots = 0;
+		for(int i=0;i<vertices;i++){
+			if(components[i] == i){
+				roots++;
+			}
+		}
+		int expectedRoots = 0;
+		for(int i=0;i<vertices;i++){
+			if(expected.find(i) == i){
+				expectedRoots++;
+			}
+		}
+		System.out.println("Components matched sequential union find: " + (matched && roots == expectedRoots) + ", components: " + roots);
+	}
+}
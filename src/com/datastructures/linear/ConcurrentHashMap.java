@@ -0,0 +1,615 @@
+package com.datastructures.linear;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * <p><code>ConcurrentHashMap</code> is a thread safe variant of {@link HashMap}. It uses the same separate chaining technique, each bucket contains linked list of <code>HashNode</code>.</p>
+ *
+ * <p>Writes lock only the bucket they change, by synchronizing on first node of the bucket. Empty bucket is filled with a single compare and set, without taking any lock.
+ * Reads never lock. Buckets are read through {@link AtomicReferenceArray} and node's value and next pointers are volatile, so <code>get</code> always sees fully linked nodes.</p>
+ *
+ * <p>Resizing is done concurrently. Thread which crosses balance factor allocates new bucket array, and every thread which runs into a bucket being moved helps by claiming a range of old buckets.
+ * Moved bucket is replaced by a <code>ForwardingNode</code> which points readers and writers to new bucket array. Nodes are copied into new buckets, so readers still walking old bucket are never disturbed.</p>
+ *
+ * <p>Null keys and null values are not allowed, because null returned from <code>get</code> must always mean key doesn't exist.</p>
+ *
+ * @author Sasi on 18-Oct-2026, 2:20:11 pm
+ */
+public class ConcurrentHashMap<K, V> {
+
+	//Hash value of forwarding nodes and reservation nodes. Normal nodes always have non negative hash
+	private static final int MOVED = -1;
+	private static final int RESERVED = -2;
+
+	private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+	//Minimum number of buckets claimed by a thread while helping resize
+	private static final int MIN_TRANSFER_STRIDE = 16;
+
+	private final float balanceFactor;
+	private volatile AtomicReferenceArray<HashNode<K, V>> bucketArray;
+	private final AtomicReference<Transfer> transfer;
+	private final LongAdder size;
+
+	public ConcurrentHashMap() {
+		this(16);
+	}
+
+	public ConcurrentHashMap(int initialCapacity) {
+		super();
+		balanceFactor = 0.7f;
+
+		int numberOfBuckets = 2;
+		while(numberOfBuckets < initialCapacity && numberOfBuckets < MAXIMUM_CAPACITY){
+			numberOfBuckets <<= 1;
+		}
+
+		bucketArray = new AtomicReferenceArray<>(numberOfBuckets);
+		transfer = new AtomicReference<>();
+		size = new LongAdder();
+	}
+
+	static class HashNode<K, V>{
+		final int hash;
+		final K key;
+		volatile V value;
+		volatile HashNode<K, V> nextNode;
+
+		HashNode(int hash, K key, V value, HashNode<K, V> nextNode) {
+			super();
+			this.hash = hash;
+			this.key = key;
+			this.value = value;
+			this.nextNode = nextNode;
+		}
+	}
+
+	/**
+	 * Placed into an old bucket once its nodes have been moved into new bucket array.
+	 */
+	static final class ForwardingNode<K, V> extends HashNode<K, V>{
+		final AtomicReferenceArray<HashNode<K, V>> nextBucketArray;
+
+		ForwardingNode(AtomicReferenceArray<HashNode<K, V>> nextBucketArray) {
+			super(MOVED, null, null, null);
+			this.nextBucketArray = nextBucketArray;
+		}
+	}
+
+	/**
+	 * Placeholder which locks an empty bucket while <code>computeIfAbsent</code> is computing the value.
+	 */
+	static final class ReservationNode<K, V> extends HashNode<K, V>{
+		ReservationNode() {
+			super(RESERVED, null, null, null);
+		}
+	}
+
+	public V get(Object key){
+		int hash = spread(key.hashCode());
+		AtomicReferenceArray<HashNode<K, V>> tab = bucketArray;
+
+		while(true){
+			HashNode<K, V> node = tab.get(hash & (tab.length() - 1));
+
+			//Bucket is moved, so continuing search in new bucket array
+			if(node instanceof ForwardingNode){
+				tab = ((ForwardingNode<K, V>) node).nextBucketArray;
+				continue;
+			}
+
+			for(;null != node;node = node.nextNode){
+				if(node.hash == hash && key.equals(node.key)){
+					return node.value;
+				}
+			}
+			return null;
+		}
+	}
+
+	public boolean containsKey(Object key){
+		return get(key) != null;
+	}
+
+	/**
+	 *
+	 * @param key
+	 * @param value
+	 * @return previous value for the key, or null if key is new
+	 */
+	public V put(K key, V value){
+		return putValue(key, value, false);
+	}
+
+	/**
+	 * Atomically puts value only if key doesn't exist.
+	 *
+	 * @param key
+	 * @param value
+	 * @return existing value for the key, or null if given value is put
+	 */
+	public V putIfAbsent(K key, V value){
+		return putValue(key, value, true);
+	}
+
+	private V putValue(K key, V value, boolean onlyIfAbsent){
+		if(null == key || null == value){
+			throw new NullPointerException();
+		}
+
+		int hash = spread(key.hashCode());
+		AtomicReferenceArray<HashNode<K, V>> tab = bucketArray;
+
+		while(true){
+			int index = hash & (tab.length() - 1);
+			HashNode<K, V> head = tab.get(index);
+
+			//Empty bucket is filled without locking
+			if(null == head){
+				if(tab.compareAndSet(index, null, new HashNode<K, V>(hash, key, value, null))){
+					break;
+				}
+				continue;
+			}
+
+			if(head.hash == MOVED){
+				tab = helpTransfer((ForwardingNode<K, V>) head);
+				continue;
+			}
+
+			synchronized (head) {
+
+				//Bucket could have been changed by other writer or resizer before we got the lock
+				if(tab.get(index) != head || head.hash < 0){
+					continue;
+				}
+
+				HashNode<K, V> node = head;
+				while(true){
+					if(node.hash == hash && key.equals(node.key)){
+						V oldValue = node.value;
+						if(!onlyIfAbsent){
+							node.value = value;
+						}
+						return oldValue;
+					}
+
+					if(null == node.nextNode){
+						node.nextNode = new HashNode<K, V>(hash, key, value, null);
+						break;
+					}
+					node = node.nextNode;
+				}
+			}
+			break;
+		}
+
+		addCount(1);
+		return null;
+	}
+
+	/**
+	 * Atomically computes value for the key if it doesn't exist. Mapping function is called at most once and while bucket is locked,
+	 * so it should be short and must not update this map.
+	 *
+	 * @param key
+	 * @param mappingFunction
+	 * @return existing or computed value, or null if function returned null
+	 */
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction){
+		if(null == key || null == mappingFunction){
+			throw new NullPointerException();
+		}
+
+		int hash = spread(key.hashCode());
+		AtomicReferenceArray<HashNode<K, V>> tab = bucketArray;
+
+		while(true){
+			int index = hash & (tab.length() - 1);
+			HashNode<K, V> head = tab.get(index);
+
+			if(null == head){
+
+				//Reserving empty bucket so that nobody else can add into it while value is computed
+				HashNode<K, V> reservation = new ReservationNode<K, V>();
+				synchronized (reservation) {
+					if(tab.compareAndSet(index, null, reservation)){
+						V value = null;
+						try{
+							value = mappingFunction.apply(key);
+						}finally{
+							tab.set(index, null == value ? null : new HashNode<K, V>(hash, key, value, null));
+						}
+
+						if(null != value){
+							addCount(1);
+						}
+						return value;
+					}
+				}
+				continue;
+			}
+
+			if(head.hash == MOVED){
+				tab = helpTransfer((ForwardingNode<K, V>) head);
+				continue;
+			}
+
+			//Lock free fast path when key already exists
+			for(HashNode<K, V> node = head;null != node;node = node.nextNode){
+				if(node.hash == hash && key.equals(node.key)){
+					return node.value;
+				}
+			}
+
+			V value;
+			synchronized (head) {
+				if(tab.get(index) != head || head.hash < 0){
+					continue;
+				}
+
+				HashNode<K, V> node = head;
+				while(true){
+					if(node.hash == hash && key.equals(node.key)){
+						return node.value;
+					}
+
+					if(null == node.nextNode){
+						value = mappingFunction.apply(key);
+						if(null == value){
+							return null;
+						}
+						node.nextNode = new HashNode<K, V>(hash, key, value, null);
+						break;
+					}
+					node = node.nextNode;
+				}
+			}
+
+			addCount(1);
+			return value;
+		}
+	}
+
+	/**
+	 * Atomically puts given value if key doesn't exist, otherwise replaces existing value with result of remapping function.
+	 * If remapping function returns null, key is removed. Function is called while bucket is locked, so it must not update this map.
+	 *
+	 * @param key
+	 * @param value
+	 * @param remappingFunction
+	 * @return new value for the key, or null if key is removed
+	 */
+	public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction){
+		if(null == key || null == value || null == remappingFunction){
+			throw new NullPointerException();
+		}
+
+		int hash = spread(key.hashCode());
+		AtomicReferenceArray<HashNode<K, V>> tab = bucketArray;
+
+		while(true){
+			int index = hash & (tab.length() - 1);
+			HashNode<K, V> head = tab.get(index);
+
+			if(null == head){
+				if(tab.compareAndSet(index, null, new HashNode<K, V>(hash, key, value, null))){
+					addCount(1);
+					return value;
+				}
+				continue;
+			}
+
+			if(head.hash == MOVED){
+				tab = helpTransfer((ForwardingNode<K, V>) head);
+				continue;
+			}
+
+			int delta = 0;
+			V newValue = null;
+			synchronized (head) {
+				if(tab.get(index) != head || head.hash < 0){
+					continue;
+				}
+
+				HashNode<K, V> prev = null;
+				HashNode<K, V> node = head;
+				while(true){
+					if(node.hash == hash && key.equals(node.key)){
+						newValue = remappingFunction.apply(node.value, value);
+						if(null != newValue){
+							node.value = newValue;
+						}else{
+							unlink(tab, index, prev, node);
+							delta = -1;
+						}
+						break;
+					}
+
+					if(null == node.nextNode){
+						node.nextNode = new HashNode<K, V>(hash, key, value, null);
+						newValue = value;
+						delta = 1;
+						break;
+					}
+					prev = node;
+					node = node.nextNode;
+				}
+			}
+
+			if(delta != 0){
+				addCount(delta);
+			}
+			return newValue;
+		}
+	}
+
+	/**
+	 *
+	 * @param key
+	 * @return removed value, or null if key doesn't exist
+	 */
+	public V remove(Object key){
+		int hash = spread(key.hashCode());
+		AtomicReferenceArray<HashNode<K, V>> tab = bucketArray;
+
+		while(true){
+			int index = hash & (tab.length() - 1);
+			HashNode<K, V> head = tab.get(index);
+
+			if(null == head){
+				return null;
+			}
+
+			if(head.hash == MOVED){
+				tab = helpTransfer((ForwardingNode<K, V>) head);
+				continue;
+			}
+
+			V oldValue = null;
+			synchronized (head) {
+				if(tab.get(index) != head || head.hash < 0){
+					continue;
+				}
+
+				HashNode<K, V> prev = null;
+				for(HashNode<K, V> node = head;null != node;prev = node, node = node.nextNode){
+					if(node.hash == hash && key.equals(node.key)){
+						oldValue = node.value;
+						unlink(tab, index, prev, node);
+						break;
+					}
+				}
+			}
+
+			if(null != oldValue){
+				addCount(-1);
+			}
+			return oldValue;
+		}
+	}
+
+	/**
+	 * Unlinks node from its bucket. Must be called while holding the lock of first node in bucket.
+	 */
+	private void unlink(AtomicReferenceArray<HashNode<K, V>> tab, int index, HashNode<K, V> prev, HashNode<K, V> node){
+		if(null == prev){
+			tab.set(index, node.nextNode);
+		}else{
+			prev.nextNode = node.nextNode;
+		}
+	}
+
+	public int size(){
+		long count = size.sum();
+		return count < 0 ? 0 : (count > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) count);
+	}
+
+	public boolean isEmpty(){
+		return size.sum() <= 0;
+	}
+
+	/**
+	 * Updates size and starts (or joins) resizing if size has reached balance factor.
+	 *
+	 * @param delta
+	 */
+	private void addCount(int delta){
+		size.add(delta);
+
+		if(delta <= 0){
+			return;
+		}
+
+		AtomicReferenceArray<HashNode<K, V>> tab = bucketArray;
+		int numberOfBuckets = tab.length();
+		if(size.sum() < (long) (numberOfBuckets * balanceFactor) || numberOfBuckets >= MAXIMUM_CAPACITY){
+			return;
+		}
+
+		Transfer current = transfer.get();
+		if(null == current){
+			Transfer newTransfer = new Transfer(tab, new AtomicReferenceArray<HashNode<K, V>>(numberOfBuckets << 1));
+			current = transfer.compareAndSet(null, newTransfer) ? newTransfer : transfer.get();
+		}
+
+		if(null != current && current.oldBucketArray == tab){
+			current.help();
+		}
+	}
+
+	/**
+	 * Helps resizing which moved given bucket and returns new bucket array to continue with.
+	 */
+	private AtomicReferenceArray<HashNode<K, V>> helpTransfer(ForwardingNode<K, V> forwardingNode){
+		Transfer current = transfer.get();
+		if(null != current && current.newBucketArray == forwardingNode.nextBucketArray){
+			current.help();
+		}
+		return forwardingNode.nextBucketArray;
+	}
+
+	/**
+	 * <code>Transfer</code> holds state of one resizing. Threads claim ranges of old buckets from <code>transferIndex</code> (going down to zero)
+	 * and the thread which moves the last bucket publishes new bucket array.
+	 */
+	private final class Transfer{
+		final AtomicReferenceArray<HashNode<K, V>> oldBucketArray;
+		final AtomicReferenceArray<HashNode<K, V>> newBucketArray;
+		final ForwardingNode<K, V> forwardingNode;
+		final AtomicInteger transferIndex;
+		final AtomicInteger movedBuckets;
+		final int stride;
+
+		Transfer(AtomicReferenceArray<HashNode<K, V>> oldBucketArray, AtomicReferenceArray<HashNode<K, V>> newBucketArray) {
+			super();
+			this.oldBucketArray = oldBucketArray;
+			this.newBucketArray = newBucketArray;
+			this.forwardingNode = new ForwardingNode<K, V>(newBucketArray);
+			this.transferIndex = new AtomicInteger(oldBucketArray.length());
+			this.movedBuckets = new AtomicInteger();
+			this.stride = Math.max(MIN_TRANSFER_STRIDE, oldBucketArray.length() / (4 * Runtime.getRuntime().availableProcessors()));
+		}
+
+		void help(){
+			int numberOfBuckets = oldBucketArray.length();
+
+			while(true){
+				int high = transferIndex.get();
+				if(high <= 0){
+					return;
+				}
+
+				int low = Math.max(0, high - stride);
+				if(!transferIndex.compareAndSet(high, low)){
+					continue;
+				}
+
+				for(int i=low;i<high;i++){
+					moveBucket(i, numberOfBuckets);
+				}
+
+				//Last thread to finish publishes new bucket array
+				if(movedBuckets.addAndGet(high - low) == numberOfBuckets){
+					if(bucketArray == oldBucketArray){
+						bucketArray = newBucketArray;
+					}
+					transfer.compareAndSet(this, null);
+					return;
+				}
+			}
+		}
+
+		/**
+		 * Splits bucket at given index into two buckets at index and index + numberOfBuckets in new bucket array.
+		 * Nodes are copied, because a reader could still be walking through old bucket.
+		 */
+		private void moveBucket(int index, int numberOfBuckets){
+			while(true){
+				HashNode<K, V> head = oldBucketArray.get(index);
+
+				if(null == head){
+					if(oldBucketArray.compareAndSet(index, null, forwardingNode)){
+						return;
+					}
+					continue;
+				}
+
+				if(head.hash == MOVED){
+					return;
+				}
+
+				synchronized (head) {
+					if(oldBucketArray.get(index) != head || head.hash < 0){
+						continue;
+					}
+
+					HashNode<K, V> low = null, high = null;
+					for(HashNode<K, V> node = head;null != node;node = node.nextNode){
+						if((node.hash & numberOfBuckets) == 0){
+							low = new HashNode<K, V>(node.hash, node.key, node.value, low);
+						}else{
+							high = new HashNode<K, V>(node.hash, node.key, node.value, high);
+						}
+					}
+
+					newBucketArray.set(index, low);
+					newBucketArray.set(index + numberOfBuckets, high);
+					oldBucketArray.set(index, forwardingNode);
+					return;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Spreads higher bits of hash code into lower bits and clears sign bit, because negative hash values are reserved for special nodes.
+	 */
+	private static int spread(int hashCode){
+		return (hashCode ^ (hashCode >>> 16)) & 0x7fffffff;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("[");
+		appendBuckets(builder, bucketArray);
+		builder.append("]");
+		return builder.toString();
+	}
+
+	private void appendBuckets(StringBuilder builder, AtomicReferenceArray<HashNode<K, V>> tab){
+		for(int i=0;i<tab.length();i++){
+			HashNode<K, V> node = tab.get(i);
+
+			//Forwarding node can't be skipped, otherwise moved keys are missed
+			if(node instanceof ForwardingNode){
+				AtomicReferenceArray<HashNode<K, V>> next = ((ForwardingNode<K, V>) node).nextBucketArray;
+				appendBucket(builder, next.get(i));
+				appendBucket(builder, next.get(i + tab.length()));
+				continue;
+			}
+			appendBucket(builder, node);
+		}
+	}
+
+	private void appendBucket(StringBuilder builder, HashNode<K, V> node){
+		for(;null != node;node = node.nextNode){
+			if(node.hash >= 0){
+				builder.append(node.key).append(" = ").append(node.value).append(",");
+			}
+		}
+	}
+
+	public static void main(String[] args) throws InterruptedException {
+		final ConcurrentHashMap<Integer, Integer> map = new ConcurrentHashMap<>();
+
+		List<Thread> threads = new ArrayList<>();
+		for(int t=0;t<4;t++){
+			Thread thread = new Thread(() -> {
+				for(int i=0;i<100000;i++){
+					map.merge(i % 1000, 1, Integer::sum);
+					map.computeIfAbsent(1000 + i, k -> k);
+				}
+			});
+			threads.add(thread);
+			thread.start();
+		}
+
+		for(Thread thread : threads){
+			thread.join();
+		}
+
+		System.out.println("Map size: " + map.size());
+		System.out.println("Count for key 7: " + map.get(7));
+		System.out.println("Value for key 5000: " + map.get(5000));
+		System.out.println("Removing key 5000: " + map.remove(5000) + ", size: " + map.size());
+	}
+}
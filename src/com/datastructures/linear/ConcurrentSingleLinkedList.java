@@ -0,0 +1,358 @@
+package com.datastructures.linear;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * <p><code>ConcurrentSingleLinkedList</code> is a lock free sorted set kept in a single linked list (Harris-Michael list). Any number of threads can add, remove and look up keys at the same time without locking.
+ * Unlike {@link SingleLinkedList}, keys are kept in ascending order and a key is added only once.</p>
+ *
+ * <p>Nodes have the same layout as {@link SingleLinkedList}, a key and a next pointer, with next pointer updated by compare and set through a {@link VarHandle}.
+ * A node is logically deleted by pointing its next pointer to a marker node, whose own next pointer is the deleted node's successor and never changes.
+ * This is the mark bit of Harris' list without a wrapper object like {@link java.util.concurrent.atomic.AtomicMarkableReference}, so walking the list reads one pointer per node.
+ * Once marked, next pointer of the node can't be changed by any compare and set, so nothing can be linked after a deleted node.</p>
+ *
+ * <p>Remove first marks the node and then unlinks it with a compare and set on predecessor's next pointer. Add links a new node with a compare and set on predecessor's next pointer, which fails if predecessor was marked in between.
+ * Any thread which finds a marked node while searching unlinks it before going on, so <code>add</code> and <code>remove</code> are lock free.</p>
+ *
+ * <p><code>contains</code> never writes and never retries: it walks next pointers once and checks the mark of the node it stops at, so it's wait free.
+ * <code>add</code> takes effect when its node is linked, <code>remove</code> when mark is set, and all three are linearizable.
+ * Iterators and <code>size</code> are weakly consistent. Null keys are not allowed.</p>
+ *
+ * <p>Time Complexities:<br>
+ *  add, remove, contains : O(n)</p>
+ *
+ * @author Sasi on 20-Oct-2026, 10:26:58 am
+ */
+public class ConcurrentSingleLinkedList<T extends Comparable<T>> implements Iterable<T> {
+
+	private static final VarHandle NEXT;
+
+	static {
+		try {
+			NEXT = MethodHandles.lookup().findVarHandle(Node.class, "nextNode", Node.class);
+		} catch (ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	static final class Node<T>{
+		final T key;
+		//Marker nodes only mark the node pointing to them as deleted, they have no key
+		final boolean marker;
+		volatile Node<T> nextNode;
+
+		Node(T key, Node<T> nextNode, boolean marker) {
+			super();
+			this.key = key;
+			this.nextNode = nextNode;
+			this.marker = marker;
+		}
+
+		boolean casNext(Node<T> expected, Node<T> next){
+			return NEXT.compareAndSet(this, expected, next);
+		}
+
+		boolean isMarked(){
+			Node<T> next = nextNode;
+			return null != next && next.marker;
+		}
+	}
+
+	//Pair of adjacent nodes found by find, current is null at the end of the list
+	static final class Window<T>{
+		final Node<T> previous, current;
+
+		Window(Node<T> previous, Node<T> current) {
+			super();
+			this.previous = previous;
+			this.current = current;
+		}
+	}
+
+	//Sentinel with null key, smaller than every key. It's never deleted
+	private final Node<T> head;
+
+	public ConcurrentSingleLinkedList() {
+		super();
+		head = new Node<T>(null, null, false);
+	}
+
+	/**
+	 * Finds first unmarked node with key greater than or equal to given key, and the node before it. Marked nodes on the way are unlinked, and search starts over from head if unlinking fails.
+	 */
+	private Window<T> find(T key){
+		retry:
+		while(true){
+			Node<T> previous = head;
+			Node<T> current = previous.nextNode;
+			while(true){
+				if(null == current){
+					return new Window<T>(previous, null);
+				}
+				Node<T> next = current.nextNode;
+				if(null != next && next.marker){
+					//Unlinking fails if previous was marked or changed, and previous can't be trusted anymore
+					if(!previous.casNext(current, next.nextNode)){
+						continue retry;
+					}
+					current = next.nextNode;
+					continue;
+				}
+				if(current.key.compareTo(key) >= 0){
+					return new Window<T>(previous, current);
+				}
+				previous = current;
+				current = next;
+			}
+		}
+	}
+
+	/**
+	 * @return true if key was added, false if it already exists
+	 */
+	public boolean add(T key){
+		checkKey(key);
+		while(true){
+			Window<T> window = find(key);
+			Node<T> current = window.current;
+			if(null != current && current.key.compareTo(key) == 0){
+				return false;
+			}
+			Node<T> node = new Node<T>(key, current, false);
+			if(window.previous.casNext(current, node)){
+				return true;
+			}
+		}
+	}
+
+	/**
+	 * Marks the node and then tries to unlink it once. If unlinking fails, the next search going past the node unlinks it.
+	 * @return true if key was removed, false if it doesn't exist
+	 */
+	public boolean remove(T key){
+		checkKey(key);
+		while(true){
+			Window<T> window = find(key);
+			Node<T> current = window.current;
+			if(null == current || current.key.compareTo(key) != 0){
+				return false;
+			}
+			Node<T> next = current.nextNode;
+			//Fails if a node was linked after current or some other thread marked it, checking again
+			if(null != next && next.marker || !current.casNext(next, new Node<T>(null, next, true))){
+				continue;
+			}
+			window.previous.casNext(current, next);
+			return true;
+		}
+	}
+
+	/**
+	 * Wait free, walks the list once without unlinking marked nodes.
+	 */
+	public boolean contains(T key){
+		checkKey(key);
+		Node<T> current = first(head);
+		while(null != current && current.key.compareTo(key) < 0){
+			current = first(current);
+		}
+		return null != current && current.key.compareTo(key) == 0 && !current.isMarked();
+	}
+
+	/**
+	 * @return node after given node, skipping its marker if it's marked
+	 */
+	private static <T> Node<T> first(Node<T> node){
+		Node<T> next = node.nextNode;
+		return null != next && next.marker ? next.nextNode : next;
+	}
+
+	private void checkKey(T key){
+		if(null == key){
+			throw new NullPointerException();
+		}
+	}
+
+	/**
+	 * Counts unmarked nodes, so it takes linear time and is exact only when no other thread is changing the list.
+	 */
+	public int size(){
+		int size = 0;
+		for(Node<T> current = first(head); null != current; current = first(current)){
+			if(!current.isMarked()){
+				size++;
+			}
+		}
+		return size;
+	}
+
+	public boolean isEmpty(){
+		return !iterator().hasNext();
+	}
+
+	/**
+	 * Weakly consistent iterator in ascending order, skips marked nodes. It never throws <code>ConcurrentModificationException</code>.
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new Iterator<T>() {
+			private Node<T> next = advance(head);
+
+			private Node<T> advance(Node<T> node){
+				node = first(node);
+				while(null != node && node.isMarked()){
+					node = first(node);
+				}
+				return node;
+			}
+
+			@Override
+			public boolean hasNext() {
+				return null != next;
+			}
+
+			@Override
+			public T next() {
+				if(null == next){
+					throw new NoSuchElementException();
+				}
+				T key = next.key;
+				next = advance(next);
+				return key;
+			}
+		};
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("[ ");
+		for(T key : this){
+			builder.append(key).append(" ");
+		}
+		builder.append("]");
+		return builder.toString();
+	}
+
+	/**
+	 * Operation of one thread on one key, with times it was called and it returned.
+	 */
+	static final class Operation{
+		static final int ADD = 0, REMOVE = 1, CONTAINS = 2;
+
+		final int type;
+		final boolean result;
+		final long call, response;
+
+		Operation(int type, boolean result, long call, long response) {
+			super();
+			this.type = type;
+			this.result = result;
+			this.call = call;
+			this.response = response;
+		}
+	}
+
+	/**
+	 * Checks if operations on one key can be ordered so that every operation takes effect between its call and response, and every result matches a set which had the key only when the order says so
+	 * (Wing and Gong search). Operations on different keys don't affect each other, so a set history is linearizable if history of every key is.
+	 * An operation can come first only if no remaining operation returned before it was called. Orders already found failing, as remaining operations and presence of key, are not searched again.
+	 */
+	static boolean linearizable(ArrayList<Operation> operations){
+		BitSet remaining = new BitSet(operations.size());
+		remaining.set(0, operations.size());
+		return linearizable(operations, remaining, false, new HashSet<String>());
+	}
+
+	private static boolean linearizable(ArrayList<Operation> operations, BitSet remaining, boolean present, Set<String> failed){
+		if(remaining.isEmpty()){
+			return true;
+		}
+		long firstResponse = Long.MAX_VALUE;
+		for(int i=remaining.nextSetBit(0);i>=0;i=remaining.nextSetBit(i+1)){
+			firstResponse = Math.min(firstResponse, operations.get(i).response);
+		}
+		for(int i=remaining.nextSetBit(0);i>=0;i=remaining.nextSetBit(i+1)){
+			Operation operation = operations.get(i);
+			if(operation.call > firstResponse){
+				continue;
+			}
+			boolean expected = operation.type == Operation.ADD ? !present : present;
+			if(expected != operation.result){
+				continue;
+			}
+			boolean nextPresent = operation.type == Operation.CONTAINS ? present : operation.type == Operation.ADD;
+			remaining.clear(i);
+			String state = remaining.toString() + nextPresent;
+			if(!failed.contains(state)){
+				if(linearizable(operations, remaining, nextPresent, failed)){
+					return true;
+				}
+				failed.add(state);
+			}
+			remaining.set(i);
+		}
+		return false;
+	}
+
+	/**
+	 * Threads run random operations on a few keys while every call and response is timed, then history of each key is checked by {@link #linearizable(ArrayList)}.
+	 */
+	public static void main(String[] args) throws InterruptedException {
+		ConcurrentSingleLinkedList<Integer> list = new ConcurrentSingleLinkedList<Integer>();
+		list.add(23);
+		list.add(56);
+		list.add(-12);
+		list.add(99);
+		System.out.println(list + ", added 56 again: " + list.add(56));
+		System.out.println("Removed 99: " + list.remove(99) + ", contains 99: " + list.contains(99) + ", size: " + list.size());
+
+		final int threadCount = 4, keys = 4, operationsPerThread = 300, rounds = 200;
+		boolean allLinearizable = true;
+		for(int round=0;round<rounds;round++){
+			final ConcurrentSingleLinkedList<Integer> shared = new ConcurrentSingleLinkedList<Integer>();
+			@SuppressWarnings({"unchecked", "rawtypes"})
+			final ArrayList<Operation>[][] histories = new ArrayList[threadCount][keys];
+			Thread[] threads = new Thread[threadCount];
+			for(int t=0;t<threadCount;t++){
+				final ArrayList<Operation>[] history = histories[t];
+				for(int k=0;k<keys;k++){
+					history[k] = new ArrayList<Operation>();
+				}
+				threads[t] = new Thread(() -> {
+					ThreadLocalRandom random = ThreadLocalRandom.current();
+					for(int i=0;i<operationsPerThread;i++){
+						int key = random.nextInt(keys);
+						int type = random.nextInt(3);
+						long call = System.nanoTime();
+						boolean result = type == Operation.ADD ? shared.add(key) : type == Operation.REMOVE ? shared.remove(key) : shared.contains(key);
+						long response = System.nanoTime();
+						history[key].add(new Operation(type, result, call, response));
+					}
+				});
+			}
+			for(Thread thread : threads){
+				thread.start();
+			}
+			for(Thread thread : threads){
+				thread.join();
+			}
+			for(int k=0;k<keys;k++){
+				ArrayList<Operation> keyHistory = new ArrayList<Operation>();
+				for(int t=0;t<threadCount;t++){
+					keyHistory.addAll(histories[t][k]);
+				}
+				allLinearizable &= linearizable(keyHistory);
+			}
+		}
+		System.out.println("Histories of " + rounds + " rounds linearizable: " + allLinearizable);
+	}
+}
@@ -0,0 +1,525 @@
+package com.datastructures.linear;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicMarkableReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p><code>ConcurrentSkipList</code> is a lock free variant of {@link SkipList}. Any number of threads can insert, get and delete keys at the same time without locking.</p>
+ *
+ * <p>Each key is a single node with a tower of next pointers, one per level. Next pointers are {@link AtomicMarkableReference}, so a node is linked into a level with a single compare and set on its predecessor's pointer at that level.
+ * Mark bit on a node's own next pointer means node is logically deleted at that level, and it can't be used as predecessor anymore. Marked nodes are unlinked (snipped) by any thread which walks past them.</p>
+ *
+ * <p>Value of a node is set to null by the thread which deletes it, which is the point where delete takes effect. Insertion takes effect when node is linked into bottom level.
+ * So <code>insert</code>, <code>get</code> and <code>delete</code> are linearizable. Upper levels are only shortcuts and may be linked or unlinked a little later.</p>
+ *
+ * <p>Levels are generated from {@link ThreadLocalRandom}, so threads never contend on a shared random generator.
+ * Iterators are weakly consistent, they never throw <code>ConcurrentModificationException</code> and may or may not show changes made after they were created.</p>
+ *
+ * <p>Null keys and null values are not allowed.</p>
+ *
+ * @author Sasi on 19-Oct-2026, 2:10:38 pm
+ */
+public class ConcurrentSkipList<K extends Comparable<K>, V> {
+
+	//Levels are numbered from 0, so a node has at most MAX_LEVEL next pointers
+	private static final int MAX_LEVEL = 32;
+
+	private static final VarHandle VALUE;
+
+	static {
+		try {
+			VALUE = MethodHandles.lookup().findVarHandle(Node.class, "value", Object.class);
+		} catch (ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	private final Node<K, V> head;
+	private final LongAdder size;
+	//Highest level any node was inserted at, searches start from this level instead of MAX_LEVEL
+	private final AtomicInteger highestLevel;
+
+	/**
+	 * <code>Node</code> represents a key and its tower of next pointers. Head node has null key and is treated as smaller than every key.
+	 */
+	static final class Node<K, V>{
+		final K key;
+		volatile Object value;
+		final AtomicMarkableReference<Node<K, V>>[] next;
+
+		@SuppressWarnings("unchecked")
+		Node(K key, V value, int topLevel) {
+			super();
+			this.key = key;
+			this.value = value;
+			next = (AtomicMarkableReference<Node<K, V>>[]) new AtomicMarkableReference<?>[topLevel + 1];
+			for(int i=0;i<next.length;i++){
+				next[i] = new AtomicMarkableReference<Node<K, V>>(null, false);
+			}
+		}
+
+		int topLevel(){
+			return next.length - 1;
+		}
+
+		@SuppressWarnings("unchecked")
+		V value(){
+			return (V) value;
+		}
+
+		boolean casValue(Object expected, Object newValue){
+			return VALUE.compareAndSet(this, expected, newValue);
+		}
+	}
+
+	public ConcurrentSkipList() {
+		super();
+		head = new Node<>(null, null, MAX_LEVEL - 1);
+		size = new LongAdder();
+		highestLevel = new AtomicInteger();
+	}
+
+	/**
+	 * Same as {@link SkipList} with probability 0.5, each level is taken with half the chance of previous one.
+	 * Trailing one bits of a random int give this distribution without looping over random calls.
+	 */
+	private static int randomLevel(){
+		int random = ThreadLocalRandom.current().nextInt();
+		return Math.min(Integer.numberOfTrailingZeros(~random), MAX_LEVEL - 1);
+	}
+
+	/**
+	 * Finds predecessor and successor of key at every level, and fills them into preds and succs arrays.
+	 * <p>While walking, marked nodes are unlinked from their predecessor. If unlinking fails because predecessor changed, search starts again from head.</p>
+	 *
+	 * @return node with given key in bottom level, or null if key doesn't exist
+	 */
+	private Node<K, V> find(K key, Node<K, V>[] preds, Node<K, V>[] succs){
+		boolean[] marked = {false};
+		retry:
+		while(true){
+			Node<K, V> pred = head;
+			Node<K, V> current = null;
+			for(int level=highestLevel.get();level>=0;level--){
+				current = pred.next[level].getReference();
+				while(null != current){
+					Node<K, V> successor = current.next[level].get(marked);
+					while(marked[0]){
+						//Snipping marked node out of this level
+						if(!pred.next[level].compareAndSet(current, successor, false, false)){
+							continue retry;
+						}
+						current = successor;
+						if(null == current){
+							break;
+						}
+						successor = current.next[level].get(marked);
+					}
+					if(null != current && current.key.compareTo(key) < 0){
+						pred = current;
+						current = successor;
+					}else{
+						break;
+					}
+				}
+				if(null != preds){
+					preds[level] = pred;
+					succs[level] = current;
+				}
+			}
+			return null != current && current.key.compareTo(key) == 0 ? current : null;
+		}
+	}
+
+	/**
+	 * Inserts key with given value, or replaces value if key already exists.
+	 *
+	 * @param key
+	 * @param value
+	 * @return previous value of the key, or null if key is new
+	 */
+	public V insert(K key, V value){
+		return doInsert(key, value, false);
+	}
+
+	/**
+	 * @return current value of the key if it already exists, otherwise inserts value and returns null
+	 */
+	public V insertIfAbsent(K key, V value){
+		return doInsert(key, value, true);
+	}
+
+	private V doInsert(K key, V value, boolean onlyIfAbsent){
+		if(null == key || null == value){
+			throw new NullPointerException();
+		}
+
+		@SuppressWarnings("unchecked")
+		Node<K, V>[] preds = (Node<K, V>[]) new Node<?, ?>[MAX_LEVEL];
+		@SuppressWarnings("unchecked")
+		Node<K, V>[] succs = (Node<K, V>[]) new Node<?, ?>[MAX_LEVEL];
+		int topLevel = randomLevel();
+		//Raising highest level before searching, so that find fills preds and succs up to top level of new node
+		int highest = highestLevel.get();
+		while(highest < topLevel && !highestLevel.compareAndSet(highest, topLevel)){
+			highest = highestLevel.get();
+		}
+
+		while(true){
+			Node<K, V> found = find(key, preds, succs);
+			if(null != found){
+				Object current = found.value;
+				if(null == current){
+					//Found node is being deleted, help marking it so that find snips it
+					markTower(found);
+					continue;
+				}
+				if(onlyIfAbsent || found.casValue(current, value)){
+					@SuppressWarnings("unchecked")
+					V oldValue = (V) current;
+					return oldValue;
+				}
+				continue;
+			}
+
+			Node<K, V> node = new Node<>(key, value, topLevel);
+			for(int level=0;level<=topLevel;level++){
+				node.next[level].set(succs[level], false);
+			}
+
+			//Linking into bottom level is the point where key becomes visible
+			if(!preds[0].next[0].compareAndSet(succs[0], node, false, false)){
+				continue;
+			}
+			size.increment();
+
+			for(int level=1;level<=topLevel;level++){
+				while(true){
+					//Pointing node to current successor at this level, fails only if node got marked by a delete meanwhile
+					Node<K, V> successor = node.next[level].getReference();
+					if(!node.next[level].compareAndSet(successor, succs[level], false, false)){
+						find(key, null, null);
+						return null;
+					}
+					if(preds[level].next[level].compareAndSet(succs[level], node, false, false)){
+						break;
+					}
+					find(key, preds, succs);
+				}
+			}
+
+			if(null == node.value){
+				//Deleted while upper levels were being linked, making sure it isn't left linked in any level
+				find(key, null, null);
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * Walks the list without modifying it, so get never retries and never waits for other threads.
+	 *
+	 * @param key
+	 * @return value of the key, or null if key doesn't exist
+	 */
+	public V get(K key){
+		if(null == key){
+			throw new NullPointerException();
+		}
+
+		boolean[] marked = {false};
+		Node<K, V> pred = head;
+		Node<K, V> current = null;
+		for(int level=highestLevel.get();level>=0;level--){
+			current = pred.next[level].getReference();
+			while(null != current){
+				Node<K, V> successor = current.next[level].get(marked);
+				if(marked[0]){
+					current = successor;
+					continue;
+				}
+				if(current.key.compareTo(key) < 0){
+					pred = current;
+					current = successor;
+				}else{
+					break;
+				}
+			}
+		}
+		return null != current && current.key.compareTo(key) == 0 ? current.value() : null;
+	}
+
+	public boolean containsKey(K key){
+		return null != get(key);
+	}
+
+	/**
+	 * Deletes key from the list. Only one thread can set node's value to null, so only one of concurrent deletes of a key returns its value.
+	 * <p>After that node is marked at every level from top to bottom, and find is called to unlink it.</p>
+	 *
+	 * @param key
+	 * @return deleted value, or null if key doesn't exist
+	 */
+	public V delete(K key){
+		if(null == key){
+			throw new NullPointerException();
+		}
+
+		while(true){
+			Node<K, V> found = find(key, null, null);
+			if(null == found){
+				return null;
+			}
+			Object current = found.value;
+			if(null == current){
+				//Some other thread is deleting it, helping and checking again
+				markTower(found);
+				continue;
+			}
+			if(found.casValue(current, null)){
+				size.decrement();
+				markTower(found);
+				find(key, null, null);
+				@SuppressWarnings("unchecked")
+				V value = (V) current;
+				return value;
+			}
+		}
+	}
+
+	private void markTower(Node<K, V> node){
+		for(int level=node.topLevel();level>=0;level--){
+			AtomicMarkableReference<Node<K, V>> next = node.next[level];
+			while(!next.isMarked()){
+				next.attemptMark(next.getReference(), true);
+			}
+		}
+	}
+
+	public int size(){
+		long count = size.sum();
+		return count < 0 ? 0 : (count > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) count);
+	}
+
+	public boolean isEmpty(){
+		return null == firstNode(null);
+	}
+
+	/**
+	 * @return first live node in bottom level with key greater than or equal to given key, or first live node if key is null
+	 */
+	private Node<K, V> firstNode(K fromKey){
+		Node<K, V> current;
+		if(null == fromKey){
+			current = head.next[0].getReference();
+		}else{
+			@SuppressWarnings("unchecked")
+			Node<K, V>[] preds = (Node<K, V>[]) new Node<?, ?>[MAX_LEVEL];
+			@SuppressWarnings("unchecked")
+			Node<K, V>[] succs = (Node<K, V>[]) new Node<?, ?>[MAX_LEVEL];
+			find(fromKey, preds, succs);
+			current = succs[0];
+		}
+		while(null != current && null == current.value){
+			current = current.next[0].getReference();
+		}
+		return current;
+	}
+
+	/**
+	 * @return weakly consistent iterator over all entries in ascending key order
+	 */
+	public Iterator<Map.Entry<K, V>> iterator(){
+		return new RangeIterator(null, null);
+	}
+
+	/**
+	 * @param fromKey inclusive lower bound, or null for no lower bound
+	 * @param toKey exclusive upper bound, or null for no upper bound
+	 * @return weakly consistent iterator over entries with keys in the given range, in ascending key order
+	 */
+	public Iterator<Map.Entry<K, V>> iterator(K fromKey, K toKey){
+		return new RangeIterator(fromKey, toKey);
+	}
+
+	/**
+	 * Walks bottom level and skips deleted nodes. Value of next entry is read ahead, so <code>next</code> always returns an entry even if it's deleted right after <code>hasNext</code>.
+	 */
+	private final class RangeIterator implements Iterator<Map.Entry<K, V>>{
+		private final K toKey;
+		private Node<K, V> nextNode;
+		private V nextValue;
+		private K lastReturned;
+
+		RangeIterator(K fromKey, K toKey) {
+			super();
+			this.toKey = toKey;
+			advance(firstNode(fromKey));
+		}
+
+		private void advance(Node<K, V> node){
+			while(null != node){
+				if(null != toKey && node.key.compareTo(toKey) >= 0){
+					node = null;
+					break;
+				}
+				V value = node.value();
+				if(null != value){
+					nextValue = value;
+					break;
+				}
+				node = node.next[0].getReference();
+			}
+			nextNode = node;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return null != nextNode;
+		}
+
+		@Override
+		public Map.Entry<K, V> next() {
+			if(null == nextNode){
+				throw new NoSuchElementException();
+			}
+			Map.Entry<K, V> entry = new AbstractMap.SimpleImmutableEntry<>(nextNode.key, nextValue);
+			lastReturned = nextNode.key;
+			advance(nextNode.next[0].getReference());
+			return entry;
+		}
+
+		@Override
+		public void remove() {
+			if(null == lastReturned){
+				throw new IllegalStateException();
+			}
+			delete(lastReturned);
+			lastReturned = null;
+		}
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("[");
+		for(Iterator<Map.Entry<K, V>> iterator = iterator(); iterator.hasNext();){
+			Map.Entry<K, V> entry = iterator.next();
+			builder.append(entry.getKey()).append(" = ").append(entry.getValue());
+			if(iterator.hasNext()){
+				builder.append(", ");
+			}
+		}
+		builder.append("]");
+		return builder.toString();
+	}
+
+	/**
+	 * Threads insert, delete and get a few shared keys, so most operations race with others on the same key. Every insert writes a value no other operation writes,
+	 * and every value written must come back exactly once: as the previous value returned by a later insert, as the value returned by a delete, or as a value left in the list at the end.
+	 * A value lost by two inserts linking the same key, or returned by two deletes, breaks this count. Gets must return a value written for the same key.
+	 */
+	public static void main(String[] args) throws InterruptedException {
+		final int threadCount = 4;
+		final int keyRange = 8;
+		final int operationsPerThread = 200000;
+		final ConcurrentSkipList<Integer, Integer> skipList = new ConcurrentSkipList<>();
+		//Value of operation i of thread t is t * operationsPerThread + i, key it was written for is kept at that index
+		final int[] keyOfValue = new int[threadCount * operationsPerThread];
+		Arrays.fill(keyOfValue, -1);
+		final List<List<Integer>> returned = new ArrayList<>();
+		final boolean[] failed = {false};
+
+		List<Thread> threads = new ArrayList<>();
+		for(int t=0;t<threadCount;t++){
+			final int firstValue = t * operationsPerThread;
+			final List<Integer> values = new ArrayList<>();
+			returned.add(values);
+			Thread thread = new Thread(() -> {
+				ThreadLocalRandom random = ThreadLocalRandom.current();
+				for(int i=0;i<operationsPerThread;i++){
+					int key = random.nextInt(keyRange);
+					int operation = random.nextInt(3);
+					if(operation == 0){
+						keyOfValue[firstValue + i] = key;
+						Integer previous = skipList.insert(key, firstValue + i);
+						if(null != previous){
+							values.add(previous);
+						}
+					}else if(operation == 1){
+						Integer removed = skipList.delete(key);
+						if(null != removed){
+							values.add(removed);
+						}
+					}else{
+						Integer value = skipList.get(key);
+						if(null != value && keyOfValue[value] != key){
+							failed[0] = true;
+						}
+					}
+				}
+
+				//Iterating a range while other threads are still writing, keys must be ascending
+				Integer previous = null;
+				for(Iterator<Map.Entry<Integer, Integer>> iterator = skipList.iterator(2, 6); iterator.hasNext();){
+					Integer key = iterator.next().getKey();
+					if(key < 2 || key >= 6 || (null != previous && previous >= key)){
+						failed[0] = true;
+					}
+					previous = key;
+				}
+			});
+			threads.add(thread);
+			thread.start();
+		}
+
+		for(Thread thread : threads){
+			thread.join();
+		}
+
+		int[] seen = new int[keyOfValue.length];
+		for(List<Integer> values : returned){
+			for(Integer value : values){
+				seen[value]++;
+			}
+		}
+		int entries = 0;
+		for(Iterator<Map.Entry<Integer, Integer>> iterator = skipList.iterator(); iterator.hasNext();){
+			Map.Entry<Integer, Integer> entry = iterator.next();
+			if(keyOfValue[entry.getValue()] != entry.getKey()){
+				failed[0] = true;
+			}
+			seen[entry.getValue()]++;
+			entries++;
+		}
+		boolean conserved = true;
+		for(int value=0;value<keyOfValue.length;value++){
+			conserved &= seen[value] == (keyOfValue[value] < 0 ? 0 : 1);
+		}
+
+		System.out.println("Values returned by get and left in list belong to their keys: " + !failed[0]);
+		System.out.println("Every inserted value returned or left exactly once: " + conserved);
+		System.out.println("Size: " + skipList.size() + ", entries: " + entries);
+
+		ConcurrentSkipList<Integer, String> small = new ConcurrentSkipList<>();
+		small.insert(30, "thirty");
+		small.insert(10, "ten");
+		small.insert(50, "fifty");
+		small.insert(40, "forty");
+		System.out.println(small);
+		System.out.println("Value for key: 40 is " + small.get(40));
+		System.out.println("Deleting key: 30 is " + small.delete(30));
+		System.out.println(small);
+	}
+}
@@ -0,0 +1,205 @@
+package com.datastructures.linear;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * <p><code>ConcurrentStack</code> is a lock free variant of {@link Stack}. Any number of threads can push and pop at the same time without locking.</p>
+ *
+ * <p>Elements are kept in a linked list and head of the list is the top of stack (Treiber stack). Push links a new node in front of head and pop unlinks head, both with a single compare and set on head,
+ * retried if some other thread changed head in between. A new node is created for every push and nodes are never reused, so head can't go back to a node it pointed to before (no ABA problem).</p>
+ *
+ * <p>Under contention most compare and sets on head fail, so a thread whose compare and set failed backs off to an elimination array instead of retrying right away.
+ * A push which backs off leaves its node in a random slot and waits there for a while. A pop which backs off looks into a random slot and takes the node if there is one.
+ * Such a push and pop cancel each other out without touching head: it's as if the element was pushed and then popped right away, which is a valid order since both calls were running at the same time.
+ * A push which isn't taken in time removes its node from the slot and goes back to head.</p>
+ *
+ * <p>Null elements are not allowed.</p>
+ *
+ * @author Sasi on 19-Oct-2026, 10:52:09 pm
+ */
+public class ConcurrentStack<T> {
+
+	//Number of spins a push waits in elimination array for a pop to take its node
+	private static final int ELIMINATION_SPINS = 128;
+
+	static final class Node<T>{
+		final T value;
+		Node<T> next;
+
+		Node(T value) {
+			super();
+			this.value = value;
+		}
+	}
+
+	private final AtomicReference<Node<T>> head;
+	private final AtomicReferenceArray<Node<T>> elimination;
+
+	public ConcurrentStack() {
+		this(Math.max(2, Runtime.getRuntime().availableProcessors() / 2));
+	}
+
+	/**
+	 * @param eliminationSlots number of slots pushes and pops meet at, around half the number of contending threads works well
+	 */
+	public ConcurrentStack(int eliminationSlots) {
+		super();
+		if(eliminationSlots < 1){
+			throw new IllegalArgumentException("Elimination slots must be at least 1: " + eliminationSlots);
+		}
+		head = new AtomicReference<Node<T>>();
+		elimination = new AtomicReferenceArray<Node<T>>(eliminationSlots);
+	}
+
+	public T push(T t){
+		if(null == t){
+			throw new NullPointerException();
+		}
+
+		Node<T> node = new Node<T>(t);
+		while(true){
+			Node<T> top = head.get();
+			node.next = top;
+			if(head.compareAndSet(top, node)){
+				return t;
+			}
+			if(eliminatePush(node)){
+				return t;
+			}
+		}
+	}
+
+	/**
+	 * Leaves node in a free slot and waits for a pop to take it. Node is taken if it's not in the slot anymore, since only a pop or this push removes it.
+	 * @return true if a pop took the node
+	 */
+	private boolean eliminatePush(Node<T> node){
+		int slot = ThreadLocalRandom.current().nextInt(elimination.length());
+		if(!elimination.compareAndSet(slot, null, node)){
+			return false;
+		}
+		for(int i=0;i<ELIMINATION_SPINS;i++){
+			if(elimination.get(slot) != node){
+				return true;
+			}
+			Thread.onSpinWait();
+		}
+		//Withdrawing, fails only if a pop took the node just now
+		return !elimination.compareAndSet(slot, node, null);
+	}
+
+	/**
+	 * @return top element after removing it, or null if stack is empty
+	 */
+	public T pop(){
+		while(true){
+			Node<T> top = head.get();
+			if(null == top){
+				return null;
+			}
+			if(head.compareAndSet(top, top.next)){
+				return top.value;
+			}
+
+			int slot = ThreadLocalRandom.current().nextInt(elimination.length());
+			Node<T> node = elimination.get(slot);
+			if(null != node && elimination.compareAndSet(slot, node, null)){
+				return node.value;
+			}
+		}
+	}
+
+	/**
+	 * @return top element without removing it, or null if stack is empty
+	 */
+	public T peek(){
+		Node<T> top = head.get();
+		return null == top ? null : top.value;
+	}
+
+	public boolean isEmpty(){
+		return null == head.get();
+	}
+
+	/**
+	 * Counts nodes from head, so it takes linear time and is exact only when no other thread is pushing or popping.
+	 */
+	public int size(){
+		int size = 0;
+		for(Node<T> node = head.get(); null != node; node = node.next){
+			size++;
+		}
+		return size;
+	}
+
+	@Override
+	public String toString() {
+		List<T> elements = new ArrayList<T>();
+		for(Node<T> node = head.get(); null != node; node = node.next){
+			elements.add(node.value);
+		}
+		return elements.toString();
+	}
+
+	/**
+	 * Threads push and pop unique numbers at the same time, then every number pushed must have been popped exactly once or still be in the stack.
+	 */
+	public static void main(String[] args) throws InterruptedException {
+		ConcurrentStack<Integer> stack = new ConcurrentStack<>();
+		stack.push(1);
+		stack.push(2);
+		stack.push(3);
+		System.out.println(stack + ", peek: " + stack.peek());
+		System.out.println("Popped: " + stack.pop() + ", size: " + stack.size());
+		stack.pop();
+		stack.pop();
+		System.out.println("Popped from empty stack: " + stack.pop());
+
+		final int threadCount = 4;
+		final int perThread = 500000;
+		final ConcurrentStack<Integer> shared = new ConcurrentStack<>(2);
+		final List<List<Integer>> popped = new ArrayList<List<Integer>>();
+		Thread[] threads = new Thread[threadCount];
+		for(int t=0;t<threadCount;t++){
+			final int thread = t;
+			popped.add(new ArrayList<Integer>());
+			threads[t] = new Thread(() -> {
+				ThreadLocalRandom random = ThreadLocalRandom.current();
+				for(int i=0;i<perThread;i++){
+					shared.push(thread * perThread + i);
+					if(random.nextBoolean()){
+						Integer value = shared.pop();
+						if(null != value){
+							popped.get(thread).add(value);
+						}
+					}
+				}
+			});
+			threads[t].start();
+		}
+		for(Thread thread : threads){
+			thread.join();
+		}
+
+		Map<Integer, Integer> counts = new HashMap<Integer, Integer>();
+		for(List<Integer> values : popped){
+			for(Integer value : values){
+				counts.merge(value, 1, Integer::sum);
+			}
+		}
+		for(Integer value; null != (value = shared.pop());){
+			counts.merge(value, 1, Integer::sum);
+		}
+		boolean exactlyOnce = counts.size() == threadCount * perThread;
+		for(int count : counts.values()){
+			exactlyOnce &= count == 1;
+		}
+		System.out.println("Every pushed element popped exactly once: " + exactlyOnce);
+	}
+}
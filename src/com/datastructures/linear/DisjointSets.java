@@ -1,89 +1,122 @@
 package com.datastructures.linear;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.PrimitiveIterator;
 
 /**
- * 
+ * <p><code>DisjointSets</code> keeps elements of any type in disjoint sets. Every element gets a dense int id when its set is made,
+ * and union and find are done by {@link IntDisjointSets} on those ids.</p>
+ *
+ * <p>Number of sets, size of a set and size histogram are kept up to date by every union, and members of a set are listed without looking at other sets.</p>
+ *
  * @author Sasi on 01-Jun-2018, 8:54:06 am
  */
 public class DisjointSets<T> {
-	
-	Map<T, Node<T>> disjointSet;
-	
+
+	private Map<T, Integer> ids;
+	private List<T> names;
+	private IntDisjointSets sets;
+
 	public DisjointSets(){
-		disjointSet = new HashMap<T, Node<T>>();
+		ids = new HashMap<T, Integer>();
+		names = new ArrayList<T>();
+		sets = new IntDisjointSets(0);
 	}
-	
+
 	/**
-	 * 
-	 * @param nodeId
+	 * Creates a set with only the given element. Nothing changes if element already exists.
+	 * @param name
 	 */
 	public void makeSet(T name){
-		Node<T> newNode = new Node<T>(name);
-		newNode.parent = newNode;
-		disjointSet.put(name, newNode);
+		if(ids.containsKey(name)){
+			return;
+		}
+		ids.put(name, sets.makeSet());
+		names.add(name);
 	};
-	
+
 	/**
-	 * 
+	 * Merges sets containing both elements.
 	 * @param node1Id
 	 * @param node2Id
+	 * @return true if elements were in different sets
 	 */
-	public void union(T node1Id, T node2Id){
-		
-		Node<T> parent = disjointSet.get(node1Id);
-		Node<T> childNodeParent = disjointSet.get(node2Id);
-		
-		while(parent.name != parent.parent.name){
-			parent = parent.parent;
-		}
-		
-		childNodeParent.parent = parent;
+	public boolean union(T node1Id, T node2Id){
+		return sets.union(idOf(node1Id), idOf(node2Id));
 	}
-	
+
 	/**
-	 * 
-	 * @param nodeId
+	 * @param name
+	 * @return representative element of the set containing given element
 	 */
 	public T findSet(T name){
-		Node<T> node = disjointSet.get(name);
-		if(node.parent.name == name){						//Checking if this element is alone in the subset
-			return name;
-		}
-		
-		while(node.name != node.parent.name){
-			node = node.parent;
-		}
-		
-		return node.name;
+		return names.get(sets.find(idOf(name)));
 	}
-	
-	class Node<T>{										//Node instance represents each element in the set
-		T name;
-		Node<T> parent;
-
-		public Node(T name) {
-			super();
-			this.name = name;
-		}
-		
-		public Node(T name, Node<T> parent) {
-			super();
-			this.name = name;
-			this.parent = parent;
+
+	public boolean connected(T name1, T name2){
+		return sets.connected(idOf(name1), idOf(name2));
+	}
+
+	/**
+	 * @return number of disjoint sets
+	 */
+	public int setCount(){
+		return sets.setCount();
+	}
+
+	/**
+	 * @return number of elements in the set containing given element
+	 */
+	public int sizeOf(T name){
+		return sets.sizeOf(idOf(name));
+	}
+
+	public int largestSetSize(){
+		return sets.largestSetSize();
+	}
+
+	/**
+	 * @return array where value at index i is the number of sets with i elements, up to size of largest set
+	 */
+	public int[] sizeHistogram(){
+		return sets.sizeHistogram();
+	}
+
+	/**
+	 * @return members of the set containing given element, starting with the element itself
+	 */
+	public List<T> members(T name){
+		List<T> members = new ArrayList<T>();
+		for(PrimitiveIterator.OfInt iterator = sets.members(idOf(name)); iterator.hasNext();){
+			members.add(names.get(iterator.nextInt()));
 		}
+		return members;
+	}
 
-		@Override
-		public String toString() {
-			return name + " " + parent.name; 
+	private int idOf(T name){
+		Integer id = ids.get(name);
+		if(null == id){
+			throw new IllegalArgumentException("Element doesn't exist: " + name);
 		}
+		return id;
 	}
-	
-	public Map<T, Node<T>> getDisjointSet(){
+
+	/**
+	 * @return every element mapped to representative element of its set, in the order elements were added
+	 */
+	public Map<T, T> getDisjointSet(){
+		Map<T, T> disjointSet = new LinkedHashMap<T, T>();
+		for(T name : names){
+			disjointSet.put(name, findSet(name));
+		}
 		return disjointSet;
 	}
-	
+
 	public static void main(String[] args) {
 		DisjointSets<Character> set = new DisjointSets<Character>();
 		set.makeSet('A');
@@ -91,16 +124,24 @@ public class DisjointSets<T> {
 		set.makeSet('C');
 		set.makeSet('D');
 		set.makeSet('E');
-		
+
 		set.union('A', 'B');
 		set.union('B', 'C');
 		set.union('C', 'D');
 		set.union('D', 'E');
-		
-		System.out.println(set.disjointSet);
-		
+
+		System.out.println(set.getDisjointSet());
+
 		System.out.println(set.findSet('C'));
 		System.out.println(set.findSet('D'));
 		System.out.println(set.findSet('E'));
+
+		set.makeSet('F');
+		set.makeSet('G');
+		set.union('F', 'G');
+		set.makeSet('H');
+		System.out.println("Sets: " + set.setCount() + ", largest set: " + set.largestSetSize() + ", size of set of G: " + set.sizeOf('G'));
+		System.out.println("Members of set of C: " + set.members('C'));
+		System.out.println("Size histogram: " + Arrays.toString(set.sizeHistogram()));
 	}
 }
@@ -1,15 +1,35 @@
 package com.datastructures.linear;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.StreamSupport;
 
 /**
  * <p>HashMap class is a implementation of HashMap data structure.
- * Balance factor has been set to 0.7 so when size reaches to 70 percent of number of buckets, buckets list will be doubled and keys will be re-created.</p>
+ * Balance factor is 0.7 by default so when size reaches to 70 percent of number of buckets, buckets list will be doubled and keys will be re-created.</p>
+ *
+ * <p>Number of buckets is always power of two, so bucket index is taken from lower bits of hash code with a mask instead of modulo.
+ * Because only lower bits are used, hash code is first passed through a spreading function which mixes higher bits into lower bits.
+ * Expected size and balance factor can be given in constructor, so a map which is sized for all its keys never resizes while it is loaded.</p>
  *
  * <p>This HashMap implements separate chaining technique to handle collisions. That means each bucket contains linked list to store actual values to handle collisions.</p>
  * 
  * <p>Time complexities: adding - O(1), deletion - O(1) and remove - O(1) but in worst cases each operation may take O(n) because of collisions. 
- * This can be reduced to O(logn) if we use AVL tree or RED-Black trees instead of linked lists to store values.</p>
+ * To reduce this to O(logn), bucket is converted from linked list into AVL tree once it contains {@link #TREEIFY_THRESHOLD} nodes, and back into linked list when it shrinks to {@link #UNTREEIFY_THRESHOLD} nodes.
+ * Tree nodes are ordered by hash code first, then by <code>compareTo</code> if keys are comparable.</p>
+ * 
+ * <p>Resizing can be done either at once (default) or incrementally. In incremental mode old and new bucket lists coexist while resizing is in progress,
+ * and every put, get and remove moves a few buckets from old list into new list. So cost of re-hashing is spread across operations instead of paying it all in one put.</p>
+ * 
+ * <p>For bulk work, <code>putAll</code> resizes at most once before adding keys, <code>forEach</code> walks all buckets without allocating,
+ * and <code>spliterator</code> splits bucket list into ranges so that <code>StreamSupport.stream(map.spliterator(), true)</code> can process entries in parallel.
+ * Map must not be modified while it is being iterated.</p>
  * 
  * @author Sasi on 03-May-2018, 8:08:11 pm
  */
@@ -20,16 +40,97 @@ public class HashMap<K, V> {
 	int numberOfBuckets;
 	int size;
 	
+	//Hash spreading function applied on hash code before masking it into bucket index
+	IntUnaryOperator hashSpreader;
+	
+	private static final int DEFAULT_EXPECTED_SIZE = 10;
+	private static final int MAXIMUM_BUCKETS = 1 << 30;
+	
+	/**
+	 * XORs higher 16 bits into lower 16 bits. Cheap and good enough for most of hash codes, this is the default.
+	 */
+	public static final IntUnaryOperator XOR_SHIFT_SPREADER = h -> h ^ (h >>> 16);
+	
+	/**
+	 * Finalizer of MurmurHash3. Every input bit affects every output bit, useful for keys with low entropy hash codes.
+	 */
+	public static final IntUnaryOperator MURMUR3_SPREADER = h -> {
+		h ^= h >>> 16;
+		h *= 0x85ebca6b;
+		h ^= h >>> 13;
+		h *= 0xc2b2ae35;
+		return h ^ (h >>> 16);
+	};
+	
+	//Number of old buckets moved into new bucket list per operation while incremental resizing is in progress
+	private static final int MIGRATION_STEP = 4;
+	
+	//Bucket is converted into tree when its linked list reaches this length
+	static final int TREEIFY_THRESHOLD = 8;
+	
+	//Tree bucket is converted back into linked list when it shrinks to this size
+	static final int UNTREEIFY_THRESHOLD = 6;
+	
+	boolean incrementalResize;
+	
+	//Bucket list before resizing, non null only while incremental resizing is in progress
+	ArrayList<HashNode<K, V>> oldBucketList;
+	int oldNumberOfBuckets;
+	
+	//Old buckets below this index have already been moved into new bucket list
+	int migrationIndex;
 	
 	public HashMap() {
+		this(false);
+	}
+	
+	/**
+	 * 
+	 * @param incrementalResize if true, buckets are moved into resized bucket list few at a time on each operation instead of all at once
+	 */
+	public HashMap(boolean incrementalResize) {
+		this(DEFAULT_EXPECTED_SIZE, 0.7f, incrementalResize, XOR_SHIFT_SPREADER);
+	}
+	
+	/**
+	 * 
+	 * @param expectedSize number of keys which can be put without resizing
+	 * @param balanceFactor
+	 */
+	public HashMap(int expectedSize, float balanceFactor) {
+		this(expectedSize, balanceFactor, false, XOR_SHIFT_SPREADER);
+	}
+	
+	/**
+	 * 
+	 * @param expectedSize number of keys which can be put without resizing
+	 * @param balanceFactor
+	 * @param incrementalResize if true, buckets are moved into resized bucket list few at a time on each operation instead of all at once
+	 * @param hashSpreader function applied on hash code before taking bucket index from its lower bits
+	 */
+	public HashMap(int expectedSize, float balanceFactor, boolean incrementalResize, IntUnaryOperator hashSpreader) {
 		super();
 		
-		//Initializing with default values
-		balanceFactor = 0.7f;
-		numberOfBuckets = 10;
+		if(expectedSize < 0){
+			throw new IllegalArgumentException("Expected size can't be negative: " + expectedSize);
+		}
+		if(!(balanceFactor > 0)){
+			throw new IllegalArgumentException("Balance factor must be positive: " + balanceFactor);
+		}
+		
+		this.balanceFactor = balanceFactor;
+		this.incrementalResize = incrementalResize;
+		this.hashSpreader = Objects.requireNonNull(hashSpreader);
 		size = 0;
 		
-		bucketList = new ArrayList<>();
+		//Smallest power of two for which expected size stays below balance factor
+		long required = (long) (expectedSize / balanceFactor) + 1;
+		numberOfBuckets = 1;
+		while(numberOfBuckets < required && numberOfBuckets < MAXIMUM_BUCKETS){
+			numberOfBuckets <<= 1;
+		}
+		
+		bucketList = new ArrayList<>(numberOfBuckets);
 		for(int i=0;i<numberOfBuckets;i++){
 			bucketList.add(null);
 		}
@@ -43,6 +144,32 @@ public class HashMap<K, V> {
 	 * @throws Exception
 	 */
 	public V put(K key, V value) throws Exception{
+		return putValue(key, value);
+	}
+	
+	/**
+	 * Puts all keys of given map. Number of buckets is increased once up front to fit all keys, instead of doubling again and again while putting them.
+	 * 
+	 * @param map
+	 */
+	public void putAll(HashMap<? extends K, ? extends V> map){
+		ensureCapacity(size + map.size());
+		map.forEach(this::putValue);
+	}
+	
+	/**
+	 * Same as {@link #putAll(HashMap)} for a JDK map.
+	 * 
+	 * @param map
+	 */
+	public void putAll(Map<? extends K, ? extends V> map){
+		ensureCapacity(size + map.size());
+		map.forEach(this::putValue);
+	}
+	
+	V putValue(K key, V value){
+		
+		migrateBucketsFor(key);
 		
 		//Handling special case for null key
 		if(key == null){
@@ -53,98 +180,140 @@ public class HashMap<K, V> {
 		int bucketNumber = getBucketIndex(key);
 
 		//Checking if key already exists
-		HashNode<K, V> node = bucketList.get(bucketNumber);
-		while(null != node){
-			if(node.key.equals(key)){
-				return node.value;
-			}
-			
-			node = node.nextNode;
+		HashNode<K, V> node = findNode(bucketNumber, key);
+		if(null != node){
+			return node.value;
 		}
 		
 		size++;
+		addNode(bucketNumber, key, value);
 		
-		//Getting node for given bucket number
-		node = bucketList.get(bucketNumber);
+		//Checking if map size is reached balance factor
+		if((float) size / numberOfBuckets >= balanceFactor && numberOfBuckets < MAXIMUM_BUCKETS){
+			resize();
+		}
 		
-		//Creating new node for given key
-		HashNode<K, V> newNode = new HashNode<K, V>(key, value);
+		return value;
+	}
+	
+	private V putForNullKey(V value) {
+		//Storing value at index zero for null key
+		HashNode<K, V> node = findNode(0, null);
 		
-		if(null == node){
-			node = newNode;
-		}else{
-			newNode.nextNode = node;
-			node = newNode;
+		//Replacing value of existing null key with new value
+		if(null != node){
+			V oldValue = node.value;
+			node.value = value;
+			return oldValue;
 		}
 		
-		//Set back updated node into buckerArray
-		bucketList.set(bucketNumber, node);
+		size++;
+		addNode(0, null, value);
 		
-		//Checking if map size is reached balance factor
-		if(size/numberOfBuckets >= balanceFactor){
-			numberOfBuckets = 2 * numberOfBuckets;
-			size = 0;
-			ArrayList<HashNode<K, V>> tempList = bucketList;
-			
-			for(int i=0;i<numberOfBuckets;i++){
-				tempList.add(null);
-			}
-			
-			for(HashNode<K, V> tempNode : tempList){
-				while(tempNode != null){
-					this.put(tempNode.key, tempNode.value);
-					tempNode = tempNode.nextNode;
-				}
+		return value;
+	}
+	
+	/**
+	 * Returns node for given key from given bucket, or null if key doesn't exist.
+	 * 
+	 * @param index
+	 * @param key
+	 * @return
+	 */
+	private HashNode<K, V> findNode(int index, K key){
+		HashNode<K, V> node = bucketList.get(index);
+		
+		if(node instanceof TreeBin){
+			return ((TreeBin<K, V>) node).find(hash(key), key);
+		}
+		
+		for(;null != node;node=node.nextNode){
+			if(Objects.equals(key, node.key)){
+				return node;
 			}
 		}
+		return null;
+	}
+	
+	/**
+	 * Adds new node into given bucket. New node becomes head of linked list, and linked list is converted into tree once it is long enough.
+	 * 
+	 * @param index
+	 * @param key
+	 * @param value
+	 */
+	private void addNode(int index, K key, V value){
+		HashNode<K, V> node = bucketList.get(index);
 		
-		return value;
+		if(node instanceof TreeBin){
+			((TreeBin<K, V>) node).insert(new TreeNode<K, V>(key, value));
+			return;
+		}
+		
+		//Creating new node for given key and making it as head
+		HashNode<K, V> newNode = new HashNode<K, V>(key, value);
+		newNode.nextNode = node;
+		bucketList.set(index, newNode);
+		
+		treeifyIfNeeded(index);
 	}
 	
-	private V putForNullKey(V value) {
-		//Storing value at index zero for null key
-		HashNode<K, V> node = bucketList.get(0);
-		
-		if(node == null){
-			bucketList.set(0, new HashNode<K, V>(null, value));
-		}
-		else{
-			//Iterating through linked list for null key and replacing its value with new value
-			for(;node != null; node = node.nextNode){
-				if(node.key == null){
-					V oldValue = node.value;
-					node.value = value;
-					return oldValue;
-				}
-			}
+	/**
+	 * Converts linked list of given bucket into tree if it has reached {@link #TREEIFY_THRESHOLD}.
+	 * 
+	 * @param index
+	 */
+	private void treeifyIfNeeded(int index){
+		HashNode<K, V> head = bucketList.get(index);
+		if(head instanceof TreeBin){
+			return;
 		}
 		
-		return value;
+		int length = 0;
+		for(HashNode<K, V> node = head;null != node && length < TREEIFY_THRESHOLD;node = node.nextNode){
+			length++;
+		}
+		
+		if(length < TREEIFY_THRESHOLD){
+			return;
+		}
+		
+		TreeBin<K, V> bin = new TreeBin<K, V>();
+		for(HashNode<K, V> node = head;null != node;node = node.nextNode){
+			bin.insert(new TreeNode<K, V>(node.key, node.value));
+		}
+		bucketList.set(index, bin);
+	}
+	
+	private static int hash(Object key){
+		return null == key ? 0 : key.hashCode();
 	}
 
 	public void remove(K key){
-		//Handling special case for null key to remove
-		if(null == key)
-		{
-			removeForNullKey(key);
-			return;
-		}
 		
+		migrateBucketsFor(key);
+		
+		//Null key sits at index zero
 		int index = getBucketIndex(key);
 		HashNode<K, V> current = bucketList.get(index);
-		current = removeNode(current, key);
 		
-		//Set back head node into bucket
-		bucketList.set(index, current);
-	}
-	
-	private void removeForNullKey(K key) {
-		HashNode<K, V> current = bucketList.get(0);
+		if(current instanceof TreeBin){
+			TreeBin<K, V> bin = (TreeBin<K, V>) current;
+			if(bin.remove(hash(key), key)){
+				size--;
+				
+				//Converting back into linked list once tree is small enough
+				if(bin.count <= UNTREEIFY_THRESHOLD){
+					bucketList.set(index, bin.toList());
+				}
+			}
+			return;
+		}
 		
 		current = removeNode(current, key);
 		
 		//Set back head node into bucket
-		bucketList.set(0, current);
+		bucketList.set(index, current);
 	}
 	
 	/**
@@ -162,7 +331,7 @@ public class HashMap<K, V> {
 		//Iterating through linked list for null key and replacing its value with new value
 		for(HashNode<K, V> temp = current;temp != null; temp = temp.nextNode){
 			
-			if(k == temp.key){
+			if(Objects.equals(k, temp.key)){
 				
 				if(prev != null){
 					prev.nextNode =temp.nextNode;
@@ -170,57 +339,323 @@ public class HashMap<K, V> {
 					current = temp.nextNode;
 				}
 				temp = null;
+				this.size--;
 				break;
 			}
 			
 			prev = temp;
 		}
 		
-		this.size--;
-		
 		return current;
 	}
 
 	public V get(K key){
 		
+		migrateBucketsFor(key);
+		
+		HashNode<K, V> node = findNode(getBucketIndex(key), key);
+		return null == node ? null : node.value;
+	}
+	
+	public int size(){
+		return size;
+	}
+	
+	public boolean isEmpty(){
+		return size == 0;
+	}
+	
+	private int getBucketIndex(K key){
+		return getBucketIndex(key, numberOfBuckets);
+	}
+	
+	private int getBucketIndex(K key, int buckets){
+		
+		//Null key always sits at index zero
 		if(null == key){
-			HashNode<K, V> node =  bucketList.get(0);
-			for(;node != null;node=node.nextNode){
-				if(null == node.key){
-					return node.value;
-				}
-			}
+			return 0;
 		}
 		
-		int index = getBucketIndex(key);
-		HashNode<K, V> node = bucketList.get(index);
+		int hashCode = hashSpreader.applyAsInt(key.hashCode());
 		
-		for(;null != node;node=node.nextNode){
-			if(key.equals(node.key)){
-				return node.value;
+		//Compressor --> gets index for the value to sit in hash table, buckets is power of two so mask works as modulo
+		return hashCode & (buckets - 1);
+	}
+	
+	/**
+	 * Increases number of buckets, if needed, so that given number of keys stays below balance factor.
+	 * 
+	 * @param expectedSize
+	 */
+	private void ensureCapacity(int expectedSize){
+		long required = (long) (expectedSize / balanceFactor) + 1;
+		int buckets = numberOfBuckets;
+		while(buckets < required && buckets < MAXIMUM_BUCKETS){
+			buckets <<= 1;
+		}
+		
+		if(buckets > numberOfBuckets){
+			resize(buckets);
+		}
+	}
+	
+	private void resize(){
+		resize(2 * numberOfBuckets);
+	}
+	
+	/**
+	 * Increases number of buckets to given power of two. In default mode all nodes are moved into new bucket list right away.
+	 * In incremental mode new bucket list is only allocated here and nodes are moved later by {@link #migrateBucketsFor(Object)}.
+	 * 
+	 * @param newNumberOfBuckets
+	 */
+	private void resize(int newNumberOfBuckets){
+		
+		//Finishing previous resize if it is still in progress, which can happen only when lot of keys were added in few operations
+		if(null != oldBucketList){
+			migrateBuckets(oldNumberOfBuckets);
+		}
+		
+		oldBucketList = bucketList;
+		oldNumberOfBuckets = numberOfBuckets;
+		migrationIndex = 0;
+		
+		numberOfBuckets = newNumberOfBuckets;
+		bucketList = new ArrayList<>(numberOfBuckets);
+		for(int i=0;i<numberOfBuckets;i++){
+			bucketList.add(null);
+		}
+		
+		if(!incrementalResize){
+			migrateBuckets(oldNumberOfBuckets);
+		}
+	}
+	
+	/**
+	 * Called before every operation while resizing is in progress. First moves the old bucket in which given key sits (so the operation 
+	 * needs to look only into new bucket list) and then moves next {@link #MIGRATION_STEP} buckets. 
+	 * 
+	 * @param key
+	 */
+	private void migrateBucketsFor(K key){
+		if(null == oldBucketList){
+			return;
+		}
+		
+		migrateBucket(getBucketIndex(key, oldNumberOfBuckets));
+		migrateBuckets(MIGRATION_STEP);
+	}
+	
+	private void migrateBuckets(int count){
+		for(int i=0;i<count && migrationIndex < oldNumberOfBuckets;i++){
+			migrateBucket(migrationIndex++);
+		}
+		
+		//All old buckets are moved so old bucket list can be released
+		if(migrationIndex == oldNumberOfBuckets){
+			oldBucketList = null;
+			oldNumberOfBuckets = 0;
+		}
+	}
+	
+	/**
+	 * Re-links all nodes of given old bucket into new bucket list. Nodes are reused, so moving doesn't allocate anything
+	 * unless a tree bucket has to be split into two trees.
+	 * 
+	 * @param index
+	 */
+	private void migrateBucket(int index){
+		HashNode<K, V> node = oldBucketList.get(index);
+		oldBucketList.set(index, null);
+		
+		boolean isTree = node instanceof TreeBin;
+		if(isTree){
+			node = ((TreeBin<K, V>) node).toList();
+		}
+		
+		while(null != node){
+			HashNode<K, V> next = node.nextNode;
+			int newIndex = getBucketIndex(node.key);
+			node.nextNode = bucketList.get(newIndex);
+			bucketList.set(newIndex, node);
+			node = next;
+		}
+		
+		//Nodes of old bucket can go only into indexes which are same as old index modulo old number of buckets
+		if(isTree){
+			for(int newIndex = index;newIndex < numberOfBuckets;newIndex += oldNumberOfBuckets){
+				treeifyIfNeeded(newIndex);
 			}
 		}
+	}
+	
+	private void finishMigration(){
+		if(null != oldBucketList){
+			migrateBuckets(oldNumberOfBuckets);
+		}
+	}
+	
+	/**
+	 * Calls given action for every key and value. Nodes are visited in place, nothing is allocated.
+	 * 
+	 * @param action
+	 */
+	public void forEach(BiConsumer<? super K, ? super V> action){
+		Objects.requireNonNull(action);
+		forEach(bucketList, action);
 		
-		return null;
+		//Buckets which are not moved yet while incremental resizing is in progress
+		if(null != oldBucketList){
+			forEach(oldBucketList, action);
+		}
 	}
 	
-	public int size(){
-		return size;
+	private void forEach(ArrayList<HashNode<K, V>> tempList, BiConsumer<? super K, ? super V> action){
+		for(int i=0;i<tempList.size();i++){
+			HashNode<K, V> node = tempList.get(i);
+			if(node instanceof TreeBin){
+				((TreeBin<K, V>) node).forEach(action);
+				continue;
+			}
+			
+			for(;null != node;node = node.nextNode){
+				action.accept(node.key, node.value);
+			}
+		}
 	}
 	
-	public boolean isEmpty(){
-		return size == 0;
+	/**
+	 * Returns a spliterator over entries of this map which splits by ranges of buckets. If incremental resizing is in progress, it is finished first
+	 * so that all entries are in one bucket list.
+	 * 
+	 * @return
+	 */
+	public Spliterator<Map.Entry<K, V>> spliterator(){
+		finishMigration();
+		return new BucketSpliterator(0, numberOfBuckets, size);
 	}
 	
-	private int getBucketIndex(K key){
-		int hashCode = Math.abs(key.hashCode());
+	/**
+	 * <code>BucketSpliterator</code> covers buckets from <code>index</code> (inclusive) to <code>fence</code> (exclusive). 
+	 * Splitting hands over first half of remaining buckets to a new spliterator, so each half can be processed by different thread.
+	 */
+	final class BucketSpliterator implements Spliterator<Map.Entry<K, V>>{
+		private int index;
+		private final int fence;
+		private long estimatedSize;
+		
+		//Next node of linked list bucket being visited
+		private HashNode<K, V> current;
+		
+		//Pending nodes of tree bucket being visited, allocated only when a tree bucket is reached
+		private ArrayDeque<TreeNode<K, V>> treeStack;
+		
+		BucketSpliterator(int index, int fence, long estimatedSize) {
+			super();
+			this.index = index;
+			this.fence = fence;
+			this.estimatedSize = estimatedSize;
+		}
+		
+		@Override
+		public boolean tryAdvance(Consumer<? super Map.Entry<K, V>> action) {
+			Objects.requireNonNull(action);
+			
+			while(true){
+				if(null != current){
+					HashNode<K, V> node = current;
+					current = current.nextNode;
+					action.accept(node);
+					return true;
+				}
+				
+				if(null != treeStack && !treeStack.isEmpty()){
+					TreeNode<K, V> node = treeStack.pop();
+					pushLeft(node.right);
+					action.accept(node);
+					return true;
+				}
+				
+				if(index >= fence){
+					return false;
+				}
+				
+				HashNode<K, V> head = bucketList.get(index++);
+				if(head instanceof TreeBin){
+					if(null == treeStack){
+						treeStack = new ArrayDeque<>();
+					}
+					pushLeft(((TreeBin<K, V>) head).root);
+				}else{
+					current = head;
+				}
+			}
+		}
+		
+		private boolean isInsideBucket(){
+			return null != current || (null != treeStack && !treeStack.isEmpty());
+		}
+		
+		private void pushLeft(TreeNode<K, V> node){
+			for(;null != node;node = node.left){
+				treeStack.push(node);
+			}
+		}
+		
+		@Override
+		public void forEachRemaining(Consumer<? super Map.Entry<K, V>> action) {
+			Objects.requireNonNull(action);
+			
+			//Finishing bucket which is partially visited by tryAdvance
+			while(isInsideBucket()){
+				tryAdvance(action);
+			}
+			
+			for(;index < fence;index++){
+				HashNode<K, V> node = bucketList.get(index);
+				if(node instanceof TreeBin){
+					((TreeBin<K, V>) node).forEachNode(action);
+					continue;
+				}
+				
+				for(;null != node;node = node.nextNode){
+					action.accept(node);
+				}
+			}
+		}
+		
+		@Override
+		public Spliterator<Map.Entry<K, V>> trySplit() {
+			
+			//Splitting only at bucket boundary
+			if(isInsideBucket()){
+				return null;
+			}
+			
+			int mid = (index + fence) >>> 1;
+			if(mid <= index){
+				return null;
+			}
+			
+			estimatedSize >>>= 1;
+			BucketSpliterator prefix = new BucketSpliterator(index, mid, estimatedSize);
+			index = mid;
+			return prefix;
+		}
 		
-		//Compressor --> gets index for the value to sit in hash table
-		return hashCode % numberOfBuckets;
+		@Override
+		public long estimateSize() {
+			return estimatedSize;
+		}
+		
+		@Override
+		public int characteristics() {
+			return Spliterator.DISTINCT | Spliterator.NONNULL;
+		}
 	}
 	
 	@SuppressWarnings("hiding")
-	class HashNode<K, V>{
+	class HashNode<K, V> implements Map.Entry<K, V>{
 		K key;
 		V value;
 		HashNode<K, V> nextNode;
@@ -230,6 +665,304 @@ public class HashMap<K, V> {
 			this.key = key;
 			this.value = value;
 		}
+
+		@Override
+		public K getKey() {
+			return key;
+		}
+
+		@Override
+		public V getValue() {
+			return value;
+		}
+
+		@Override
+		public V setValue(V value) {
+			V oldValue = this.value;
+			this.value = value;
+			return oldValue;
+		}
+		
+		@Override
+		public String toString() {
+			return key + " = " + value;
+		}
+	}
+	
+	/**
+	 * Node of a tree bucket. It is still a <code>HashNode</code> so that it can be linked back into a linked list without copying.
+	 */
+	@SuppressWarnings("hiding")
+	class TreeNode<K, V> extends HashNode<K, V>{
+		TreeNode<K, V> left;
+		TreeNode<K, V> right;
+		int height;
+		int hash;
+		
+		//Insertion order inside tree, used to order keys which have same hash code and can't be compared
+		int order;
+		
+		public TreeNode(K key, V value) {
+			super(key, value);
+			this.height = 1;
+			this.hash = HashMap.hash(key);
+		}
+	}
+	
+	/**
+	 * <p><code>TreeBin</code> sits at the head of a bucket in place of linked list and holds AVL tree of that bucket's nodes.
+	 * Balancing follows {@link com.datastructures.nonlinear.ads.AVLTree}, adapted for generic keys.</p>
+	 * 
+	 * <p>Nodes are ordered by hash code, then by class name of key, then by <code>compareTo</code> when both keys are of same comparable class, and at last by insertion order.
+	 * Search can't use insertion order, so when hash codes are same and keys can't be compared, both sub trees are searched.</p>
+	 */
+	@SuppressWarnings("hiding")
+	class TreeBin<K, V> extends HashNode<K, V>{
+		TreeNode<K, V> root;
+		int count;
+		int nextOrder;
+		
+		public TreeBin() {
+			super(null, null);
+		}
+		
+		TreeNode<K, V> find(int hash, K key){
+			return find(root, hash, key);
+		}
+		
+		private TreeNode<K, V> find(TreeNode<K, V> node, int hash, K key){
+			while(null != node){
+				if(hash < node.hash){
+					node = node.left;
+				}else if(hash > node.hash){
+					node = node.right;
+				}else if(Objects.equals(key, node.key)){
+					return node;
+				}else{
+					int compare = compareKeys(key, node.key);
+					if(compare < 0){
+						node = node.left;
+					}else if(compare > 0){
+						node = node.right;
+					}else{
+						
+						//Can't decide the side, so searching right sub tree recursively and left sub tree in this loop
+						TreeNode<K, V> found = find(node.right, hash, key);
+						if(null != found){
+							return found;
+						}
+						node = node.left;
+					}
+				}
+			}
+			return null;
+		}
+		
+		void insert(TreeNode<K, V> node){
+			node.order = nextOrder++;
+			root = insertNode(root, node);
+			count++;
+		}
+		
+		boolean remove(int hash, K key){
+			TreeNode<K, V> node = find(hash, key);
+			if(null == node){
+				return false;
+			}
+			
+			root = deleteNode(root, node);
+			count--;
+			return true;
+		}
+		
+		/**
+		 * Links all tree nodes into a linked list in ascending order and returns its head.
+		 * 
+		 * @return
+		 */
+		HashNode<K, V> toList(){
+			return toList(root, null);
+		}
+		
+		private HashNode<K, V> toList(TreeNode<K, V> node, HashNode<K, V> next){
+			if(null == node){
+				return next;
+			}
+			
+			//Linking right sub tree first so that the list is built from its tail
+			node.nextNode = toList(node.right, next);
+			HashNode<K, V> head = toList(node.left, node);
+			node.left = null;
+			node.right = null;
+			return head;
+		}
+		
+		private TreeNode<K, V> insertNode(TreeNode<K, V> root, TreeNode<K, V> node){
+			
+			//If root is null, given node becomes root of sub tree
+			if(null == root){
+				return node;
+			}
+			
+			if(compareNodes(node, root) < 0){
+				root.left = insertNode(root.left, node);
+			}else{
+				root.right = insertNode(root.right, node);
+			}
+			
+			return rebalance(root);
+		}
+		
+		private TreeNode<K, V> deleteNode(TreeNode<K, V> root, TreeNode<K, V> node){
+			
+			if(root == node){
+				if(null == root.left){
+					return root.right;
+				}
+				if(null == root.right){
+					return root.left;
+				}
+				
+				//Replacing node with its in-order successor
+				TreeNode<K, V> successor = root.right;
+				while(null != successor.left){
+					successor = successor.left;
+				}
+				successor.right = deleteNode(root.right, successor);
+				successor.left = root.left;
+				root.left = null;
+				root.right = null;
+				return rebalance(successor);
+			}
+			
+			if(compareNodes(node, root) < 0){
+				root.left = deleteNode(root.left, node);
+			}else{
+				root.right = deleteNode(root.right, node);
+			}
+			
+			return rebalance(root);
+		}
+		
+		private TreeNode<K, V> rebalance(TreeNode<K, V> root){
+			updateNodeHeight(root);
+			int balance = getBalance(root);
+			
+			//Left heavy, left-right case needs left rotation on left child first
+			if(balance > 1){
+				if(getBalance(root.left) < 0){
+					root.left = doLeftRotation(root.left);
+				}
+				return doRightRotation(root);
+			}
+			
+			//Right heavy, right-left case needs right rotation on right child first
+			if(balance < -1){
+				if(getBalance(root.right) > 0){
+					root.right = doRightRotation(root.right);
+				}
+				return doLeftRotation(root);
+			}
+			
+			return root;
+		}
+		
+		private TreeNode<K, V> doRightRotation(TreeNode<K, V> root){
+			TreeNode<K, V> newRoot = root.left;
+			root.left = newRoot.right;
+			newRoot.right = root;
+			updateNodeHeight(root);
+			updateNodeHeight(newRoot);
+			return newRoot;
+		}
+		
+		private TreeNode<K, V> doLeftRotation(TreeNode<K, V> root){
+			TreeNode<K, V> newRoot = root.right;
+			root.right = newRoot.left;
+			newRoot.left = root;
+			updateNodeHeight(root);
+			updateNodeHeight(newRoot);
+			return newRoot;
+		}
+		
+		private void updateNodeHeight(TreeNode<K, V> node){
+			node.height = 1 + Math.max(height(node.left), height(node.right));
+		}
+		
+		private int getBalance(TreeNode<K, V> node){
+			return null == node ? 0 : height(node.left) - height(node.right);
+		}
+		
+		private int height(TreeNode<K, V> node){
+			return null == node ? 0 : node.height;
+		}
+		
+		private int compareNodes(TreeNode<K, V> node1, TreeNode<K, V> node2){
+			if(node1.hash != node2.hash){
+				return node1.hash < node2.hash ? -1 : 1;
+			}
+			
+			int compare = compareKeys(node1.key, node2.key);
+			if(compare != 0){
+				return compare;
+			}
+			return Integer.compare(node1.order, node2.order);
+		}
+		
+		void forEach(BiConsumer<? super K, ? super V> action){
+			forEach(root, action);
+		}
+		
+		private void forEach(TreeNode<K, V> node, BiConsumer<? super K, ? super V> action){
+			for(;null != node;node = node.right){
+				forEach(node.left, action);
+				action.accept(node.key, node.value);
+			}
+		}
+		
+		void forEachNode(Consumer<? super Map.Entry<K, V>> action){
+			forEachNode(root, action);
+		}
+		
+		private void forEachNode(TreeNode<K, V> node, Consumer<? super Map.Entry<K, V>> action){
+			for(;null != node;node = node.right){
+				forEachNode(node.left, action);
+				action.accept(node);
+			}
+		}
+		
+		void appendTo(StringBuilder builder){
+			appendTo(builder, root);
+		}
+		
+		private void appendTo(StringBuilder builder, TreeNode<K, V> node){
+			if(null == node){
+				return;
+			}
+			appendTo(builder, node.left);
+			builder.append(node.key).append(" = ").append(node.value).append(",");
+			appendTo(builder, node.right);
+		}
+	}
+	
+	/**
+	 * Compares two keys which have same hash code. Null key comes first, keys of different classes are ordered by class name
+	 * and keys of same comparable class are compared with <code>compareTo</code>. Returns zero if keys can't be ordered.
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static int compareKeys(Object key1, Object key2){
+		if(null == key1 || null == key2){
+			return null == key1 ? (null == key2 ? 0 : -1) : 1;
+		}
+		
+		if(key1.getClass() != key2.getClass()){
+			return key1.getClass().getName().compareTo(key2.getClass().getName());
+		}
+		
+		if(!(key1 instanceof Comparable)){
+			return 0;
+		}
+		return ((Comparable) key1).compareTo(key2);
 	}
 	
 	@Override
@@ -237,15 +970,28 @@ public class HashMap<K, V> {
 		StringBuilder builder = new StringBuilder();
 		builder.append("[");
 		
-		ArrayList<HashNode<K, V>> tempList = bucketList;
+		appendBuckets(builder, bucketList);
+		
+		//Buckets which are not moved yet while incremental resizing is in progress
+		if(null != oldBucketList){
+			appendBuckets(builder, oldBucketList);
+		}
+		builder.append("]");
+		return builder.toString();
+	}
+
+	private void appendBuckets(StringBuilder builder, ArrayList<HashNode<K, V>> tempList){
 		for(HashNode<K, V> tempNode : tempList){
+			if(tempNode instanceof TreeBin){
+				((TreeBin<K, V>) tempNode).appendTo(builder);
+				continue;
+			}
+			
 			while(tempNode != null){
 				builder.append(tempNode.key).append(" = ").append(tempNode.value).append(",");
 				tempNode = tempNode.nextNode;
 			}
 		}
-		builder.append("]");
-		return builder.toString();
 	}
 
 	public static void main(String[] args) throws Exception {
@@ -275,5 +1021,74 @@ public class HashMap<K, V> {
 		map.remove("hall");
 		map.remove("adrene");
 		System.out.println(map);
+		
+		HashMap<Integer, Integer> incrementalMap = new HashMap<>(true);
+		for(int i=0;i<100;i++){
+			incrementalMap.put(i, i * i);
+		}
+		System.out.println("Incremental map size: " + incrementalMap.size() + ", value for key 42: " + incrementalMap.get(42));
+		
+		//Summing all values in parallel, each thread gets its own range of buckets
+		long total = StreamSupport.stream(incrementalMap.spliterator(), true).mapToLong(Map.Entry::getValue).sum();
+		System.out.println("Sum of incremental map values: " + total);
+		
+		HashMap<Integer, Integer> copy = new HashMap<>();
+		copy.putAll(incrementalMap);
+		System.out.println("Copied map size: " + copy.size() + ", buckets: " + copy.numberOfBuckets);
+		
+		//Pre-sized map with murmur spreading never resizes while loading expected number of keys
+		HashMap<Integer, Integer> presizedMap = new HashMap<>(1000, 0.75f, false, MURMUR3_SPREADER);
+		int bucketsBefore = presizedMap.numberOfBuckets;
+		for(int i=0;i<1000;i++){
+			presizedMap.put(i * 1024, i);
+		}
+		presizedMap.put(Integer.MIN_VALUE, -1);
+		System.out.println("Pre-sized map buckets before: " + bucketsBefore + ", after: " + presizedMap.numberOfBuckets + ", value for MIN_VALUE: " + presizedMap.get(Integer.MIN_VALUE));
+		
+		//All keys fall into same bucket, so without tree buckets every get walks whole linked list
+		HashMap<CollidingKey, Integer> collidingMap = new HashMap<>();
+		int collidingKeys = 20000;
+		for(int i=0;i<collidingKeys;i++){
+			collidingMap.put(new CollidingKey(i), i);
+		}
+		
+		long start = System.nanoTime();
+		long sum = 0;
+		for(int i=0;i<collidingKeys;i++){
+			sum += collidingMap.get(new CollidingKey(i));
+		}
+		System.out.println(collidingKeys + " lookups of colliding keys took " + (System.nanoTime() - start) / 1000000 + " ms, sum: " + sum);
+	}
+	
+	/**
+	 * Key whose hash code is always same, to force all keys into one bucket.
+	 */
+	static class CollidingKey implements Comparable<CollidingKey>{
+		int id;
+		
+		public CollidingKey(int id) {
+			super();
+			this.id = id;
+		}
+		
+		@Override
+		public int hashCode() {
+			return 42;
+		}
+		
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof CollidingKey && ((CollidingKey) obj).id == id;
+		}
+		
+		@Override
+		public int compareTo(CollidingKey other) {
+			return Integer.compare(id, other.id);
+		}
+		
+		@Override
+		public String toString() {
+			return "key" + id;
+		}
 	}
 }
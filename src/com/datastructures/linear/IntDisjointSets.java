@@ -0,0 +1,244 @@
+package com.datastructures.linear;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * <p><code>IntDisjointSets</code> is a union find over dense <code>int</code> ids 0 to n-1. Parent of every element is kept in an <code>int[]</code> and rank in a <code>byte[]</code>, so no element is an object.</p>
+ *
+ * <p>Union by rank links root of the lower ranked tree under the other root, so a tree of rank r has at least 2<sup>r</sup> elements and no path is longer than log(n).
+ * Find does path halving, every visited element is pointed to its grandparent. With both, a sequence of operations takes near constant amortized time per operation.</p>
+ *
+ * <p>Set statistics are updated inside <code>union</code>, so none of them scans elements: size of every set is kept at its root, along with number of sets, size of largest set and number of sets of every size.
+ * Members of a set are linked in a circular list through <code>next</code> array. Union of two sets swaps next pointers of both roots, which joins both circles into one.</p>
+ *
+ * @author Sasi on 19-Oct-2026, 7:32:15 pm
+ */
+public class IntDisjointSets {
+
+	private int[] parent;
+	private byte[] rank;
+	private int size;
+
+	//Size of set at its root, and next member of the set for every element
+	private int[] setSize;
+	private int[] next;
+	private int setCount;
+	private int largestSetSize;
+	//Number of sets of each size, index is the size
+	private int[] setsOfSize;
+
+	public IntDisjointSets() {
+		this(16);
+	}
+
+	/**
+	 * Creates <code>initialSize</code> elements, each one in its own set.
+	 */
+	public IntDisjointSets(int initialSize) {
+		super();
+		if(initialSize < 0){
+			throw new IllegalArgumentException("Initial size can't be negative: " + initialSize);
+		}
+		int length = Math.max(initialSize, 16);
+		parent = new int[length];
+		rank = new byte[length];
+		setSize = new int[length];
+		next = new int[length];
+		setsOfSize = new int[length + 1];
+		for(int i=0;i<initialSize;i++){
+			parent[i] = i;
+			setSize[i] = 1;
+			next[i] = i;
+		}
+		size = initialSize;
+		setCount = initialSize;
+		largestSetSize = initialSize > 0 ? 1 : 0;
+		setsOfSize[1] = initialSize;
+	}
+
+	/**
+	 * Adds a new element in its own set.
+	 * @return id of the new element
+	 */
+	public int makeSet(){
+		if(size == parent.length){
+			int newLength = parent.length + (parent.length >> 1);
+			parent = Arrays.copyOf(parent, newLength);
+			rank = Arrays.copyOf(rank, newLength);
+			setSize = Arrays.copyOf(setSize, newLength);
+			next = Arrays.copyOf(next, newLength);
+			setsOfSize = Arrays.copyOf(setsOfSize, newLength + 1);
+		}
+		parent[size] = size;
+		setSize[size] = 1;
+		next[size] = size;
+		setCount++;
+		setsOfSize[1]++;
+		largestSetSize = Math.max(largestSetSize, 1);
+		return size++;
+	}
+
+	/**
+	 * Path halving: while walking up, every element is linked to its grandparent and walk continues from there.
+	 * @param element
+	 * @return root of the set containing element
+	 */
+	public int find(int element){
+		checkElement(element);
+		int[] parent = this.parent;
+		while(parent[element] != element){
+			parent[element] = parent[parent[element]];
+			element = parent[element];
+		}
+		return element;
+	}
+
+	/**
+	 * Merges sets containing both elements by linking lower ranked root under the other. Rank grows only when both ranks are same.
+	 * @param element1
+	 * @param element2
+	 * @return true if elements were in different sets
+	 */
+	public boolean union(int element1, int element2){
+		int root1 = find(element1);
+		int root2 = find(element2);
+		if(root1 == root2){
+			return false;
+		}
+
+		if(rank[root1] < rank[root2]){
+			int root = root1;
+			root1 = root2;
+			root2 = root;
+		}else if(rank[root1] == rank[root2]){
+			rank[root1]++;
+		}
+		//root2 goes under root1
+		parent[root2] = root1;
+
+		int size1 = setSize[root1], size2 = setSize[root2];
+		int mergedSize = size1 + size2;
+		setSize[root1] = mergedSize;
+		setsOfSize[size1]--;
+		setsOfSize[size2]--;
+		setsOfSize[mergedSize]++;
+		largestSetSize = Math.max(largestSetSize, mergedSize);
+		setCount--;
+
+		int next1 = next[root1];
+		next[root1] = next[root2];
+		next[root2] = next1;
+		return true;
+	}
+
+	public boolean connected(int element1, int element2){
+		return find(element1) == find(element2);
+	}
+
+	/**
+	 * @return number of elements
+	 */
+	public int size(){
+		return size;
+	}
+
+	/**
+	 * @return number of disjoint sets
+	 */
+	public int setCount(){
+		return setCount;
+	}
+
+	/**
+	 * @return number of elements in the set containing given element
+	 */
+	public int sizeOf(int element){
+		return setSize[find(element)];
+	}
+
+	public int largestSetSize(){
+		return largestSetSize;
+	}
+
+	/**
+	 * @return array where value at index i is the number of sets with i elements, up to size of largest set
+	 */
+	public int[] sizeHistogram(){
+		return Arrays.copyOf(setsOfSize, largestSetSize + 1);
+	}
+
+	/**
+	 * Walks the circular list of the set starting from given element, so it takes time proportional to size of the set only.
+	 * Set must not be changed by <code>union</code> while iterating.
+	 *
+	 * @return iterator over members of the set containing given element
+	 */
+	public PrimitiveIterator.OfInt members(int element){
+		checkElement(element);
+		return new PrimitiveIterator.OfInt() {
+			private int current = element;
+			private boolean started;
+
+			@Override
+			public boolean hasNext() {
+				return !started || current != element;
+			}
+
+			@Override
+			public int nextInt() {
+				if(!hasNext()){
+					throw new NoSuchElementException();
+				}
+				started = true;
+				int member = current;
+				current = next[current];
+				return member;
+			}
+		};
+	}
+
+	private void checkElement(int element){
+		if(element < 0 || element >= size){
+			throw new IndexOutOfBoundsException("Element: " + element + ", size: " + size);
+		}
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("[");
+		for(int i=0;i<size;i++){
+			builder.append(i).append(" -> ").append(find(i));
+			if(i < size - 1){
+				builder.append(", ");
+			}
+		}
+		builder.append("]");
+		return builder.toString();
+	}
+
+	public static void main(String[] args) {
+		IntDisjointSets sets = new IntDisjointSets(10);
+		sets.union(0, 1);
+		sets.union(2, 3);
+		sets.union(1, 3);
+		sets.union(5, 6);
+		int element = sets.makeSet();
+		sets.union(element, 6);
+		System.out.println(sets);
+
+		System.out.println("0 and 2 connected: " + sets.connected(0, 2));
+		System.out.println("0 and 5 connected: " + sets.connected(0, 5));
+		System.out.println("Element " + element + " is in set of " + sets.find(element));
+
+		System.out.print("Members of set of 3:");
+		for(PrimitiveIterator.OfInt members = sets.members(3); members.hasNext();){
+			System.out.print(" " + members.nextInt());
+		}
+		System.out.println();
+		System.out.println("Sets: " + sets.setCount() + ", size of set of 3: " + sets.sizeOf(3) + ", largest set: " + sets.largestSetSize());
+		System.out.println("Size histogram: " + Arrays.toString(sets.sizeHistogram()));
+	}
+}
@@ -0,0 +1,207 @@
+package com.datastructures.linear;
+
+import java.util.Arrays;
+
+/**
+ * <p><code>IntIntHashMap</code> is a primitive specialization of {@link OpenAddressingHashMap} for <code>int</code> keys and <code>int</code> values. Neither keys nor values are boxed.</p>
+ *
+ * <p>Key 0 is used to mark an empty slot in keys array, so value for key 0 is stored separately outside of table.
+ * Since <code>int</code> can't be null, <code>get</code> and <code>remove</code> return <code>noEntryValue</code> (0 by default) when key doesn't exist.</p>
+ *
+ * @author Sasi on 18-Oct-2026, 11:05:32 am
+ */
+public class IntIntHashMap {
+
+	private int[] keys;
+	private int[] values;
+	private float balanceFactor;
+	private int mask;
+	private int threshold;
+	private int size;
+	private final int noEntryValue;
+
+	private boolean hasZeroKey;
+	private int zeroValue;
+
+	public IntIntHashMap() {
+		this(16, 0);
+	}
+
+	public IntIntHashMap(int expectedSize, int noEntryValue) {
+		super();
+		balanceFactor = 0.7f;
+		this.noEntryValue = noEntryValue;
+		allocate(OpenAddressingHashMap.tableSizeFor(expectedSize, balanceFactor));
+	}
+
+	/**
+	 * @param key
+	 * @param value
+	 * @return previous value for the key, or noEntryValue if key is new
+	 */
+	public int put(int key, int value){
+		if(key == 0){
+			int oldValue = hasZeroKey ? zeroValue : noEntryValue;
+			zeroValue = value;
+			if(!hasZeroKey){
+				hasZeroKey = true;
+				size++;
+			}
+			return oldValue;
+		}
+
+		int index = OpenAddressingHashMap.mix(key) & mask;
+		for(int current; (current = keys[index]) != 0; index = (index + 1) & mask){
+			if(current == key){
+				int oldValue = values[index];
+				values[index] = value;
+				return oldValue;
+			}
+		}
+
+		keys[index] = key;
+		values[index] = value;
+
+		//Checking if map size is reached balance factor
+		if(++size > threshold){
+			rehash(keys.length * 2);
+		}
+		return noEntryValue;
+	}
+
+	public int get(int key){
+		if(key == 0){
+			return hasZeroKey ? zeroValue : noEntryValue;
+		}
+		int index = indexOf(key);
+		return index < 0 ? noEntryValue : values[index];
+	}
+
+	public boolean containsKey(int key){
+		return key == 0 ? hasZeroKey : indexOf(key) >= 0;
+	}
+
+	/**
+	 * @param key
+	 * @return removed value, or noEntryValue if key doesn't exist
+	 */
+	public int remove(int key){
+		if(key == 0){
+			if(!hasZeroKey){
+				return noEntryValue;
+			}
+			hasZeroKey = false;
+			size--;
+			return zeroValue;
+		}
+
+		int index = indexOf(key);
+		if(index < 0){
+			return noEntryValue;
+		}
+
+		int oldValue = values[index];
+		shiftKeys(index);
+		size--;
+		return oldValue;
+	}
+
+	public int size(){
+		return size;
+	}
+
+	public boolean isEmpty(){
+		return size == 0;
+	}
+
+	public void clear(){
+		Arrays.fill(keys, 0);
+		hasZeroKey = false;
+		size = 0;
+	}
+
+	private int indexOf(int key){
+		int index = OpenAddressingHashMap.mix(key) & mask;
+		for(int current; (current = keys[index]) != 0; index = (index + 1) & mask){
+			if(current == key){
+				return index;
+			}
+		}
+		return -1;
+	}
+
+	//Backward shift deletion, see OpenAddressingHashMap.shiftKeys
+	private void shiftKeys(int freeIndex){
+		int index = freeIndex;
+		while(true){
+			index = (index + 1) & mask;
+			int current = keys[index];
+			if(current == 0){
+				break;
+			}
+
+			int home = OpenAddressingHashMap.mix(current) & mask;
+			if(((index - home) & mask) >= ((index - freeIndex) & mask)){
+				keys[freeIndex] = current;
+				values[freeIndex] = values[index];
+				freeIndex = index;
+			}
+		}
+		keys[freeIndex] = 0;
+	}
+
+	private void rehash(int newLength){
+		int[] oldKeys = keys;
+		int[] oldValues = values;
+		allocate(newLength);
+
+		for(int i=0;i<oldKeys.length;i++){
+			int k = oldKeys[i];
+			if(k != 0){
+				int index = OpenAddressingHashMap.mix(k) & mask;
+				while(keys[index] != 0){
+					index = (index + 1) & mask;
+				}
+				keys[index] = k;
+				values[index] = oldValues[i];
+			}
+		}
+	}
+
+	private void allocate(int length){
+		keys = new int[length];
+		values = new int[length];
+		mask = length - 1;
+		threshold = (int) (length * balanceFactor);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("[");
+		if(hasZeroKey){
+			builder.append(0).append(" = ").append(zeroValue).append(",");
+		}
+		for(int i=0;i<keys.length;i++){
+			if(keys[i] != 0){
+				builder.append(keys[i]).append(" = ").append(values[i]).append(",");
+			}
+		}
+		builder.append("]");
+		return builder.toString();
+	}
+
+	public static void main(String[] args) {
+		IntIntHashMap map = new IntIntHashMap(4, -1);
+		for(int i=0;i<20;i++){
+			map.put(i * 31, i);
+		}
+		System.out.println(map);
+
+		System.out.println("Value for key 62: " + map.get(62));
+		System.out.println("Value for missing key 63: " + map.get(63));
+		System.out.println("Removing key 0: " + map.remove(0));
+		System.out.println("Removing key 93: " + map.remove(93));
+		System.out.println(map + " size: " + map.size());
+	}
+}
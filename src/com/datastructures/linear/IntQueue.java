@@ -0,0 +1,170 @@
+package com.datastructures.linear;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * <p><code>IntQueue</code> is a primitive specialization of {@link Queue} for <code>int</code> elements. Elements are kept in a circular <code>int[]</code>,
+ * so they are neither boxed nor referenced from an object array, and growing and shrinking work the same as in {@link Queue}.</p>
+ *
+ * <p>Since <code>int</code> can't be null, removing or peeking from an empty queue throws {@link NoSuchElementException}, check <code>isEmpty</code> first.</p>
+ *
+ * @author Sasi on 19-Oct-2026, 10:31:17 pm
+ */
+public class IntQueue {
+
+	private int[] queue;
+	private int head, size, mask;
+
+	public IntQueue() {
+		this(Queue.MIN_CAPACITY);
+	}
+
+	/**
+	 * @param initialCapacity rounded up to a power of two
+	 */
+	public IntQueue(int initialCapacity) {
+		super();
+		queue = new int[Queue.capacityFor(initialCapacity)];
+		mask = queue.length - 1;
+	}
+
+	public void enQueue(int value){
+		addLast(value);
+	}
+
+	public int deQueue(){
+		return pollFirst();
+	}
+
+	public void addLast(int value){
+		if(size == queue.length){
+			resize(queue.length << 1);
+		}
+		queue[(head + size) & mask] = value;
+		size++;
+	}
+
+	public void addFirst(int value){
+		if(size == queue.length){
+			resize(queue.length << 1);
+		}
+		head = (head - 1) & mask;
+		queue[head] = value;
+		size++;
+	}
+
+	public int pollFirst(){
+		checkNotEmpty();
+		int value = queue[head];
+		head = (head + 1) & mask;
+		size--;
+		shrinkIfSparse();
+		return value;
+	}
+
+	public int pollLast(){
+		checkNotEmpty();
+		int value = queue[(head + size - 1) & mask];
+		size--;
+		shrinkIfSparse();
+		return value;
+	}
+
+	public int peek(){
+		checkNotEmpty();
+		return queue[head];
+	}
+
+	public int peekLast(){
+		checkNotEmpty();
+		return queue[(head + size - 1) & mask];
+	}
+
+	/**
+	 * @param index position from first element
+	 */
+	public int get(int index){
+		if(index < 0 || index >= size){
+			throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+		}
+		return queue[(head + index) & mask];
+	}
+
+	private void checkNotEmpty(){
+		if(size == 0){
+			throw new NoSuchElementException("Queue is empty");
+		}
+	}
+
+	private void shrinkIfSparse(){
+		if(size <= (queue.length >> 2) && queue.length > Queue.MIN_CAPACITY){
+			resize(queue.length >> 1);
+		}
+	}
+
+	private void resize(int capacity){
+		int[] resized = new int[capacity];
+		int firstPart = Math.min(size, queue.length - head);
+		System.arraycopy(queue, head, resized, 0, firstPart);
+		System.arraycopy(queue, 0, resized, firstPart, size - firstPart);
+		queue = resized;
+		mask = capacity - 1;
+		head = 0;
+	}
+
+	public void clear(){
+		queue = new int[Queue.MIN_CAPACITY];
+		mask = Queue.MIN_CAPACITY - 1;
+		head = 0;
+		size = 0;
+	}
+
+	public int size(){
+		return size;
+	}
+
+	public boolean isEmpty(){
+		return size == 0;
+	}
+
+	/**
+	 * @return length of backing array
+	 */
+	public int capacity(){
+		return queue.length;
+	}
+
+	/**
+	 * @return elements from first to last
+	 */
+	public int[] toArray(){
+		int[] elements = new int[size];
+		int firstPart = Math.min(size, queue.length - head);
+		System.arraycopy(queue, head, elements, 0, firstPart);
+		System.arraycopy(queue, 0, elements, firstPart, size - firstPart);
+		return elements;
+	}
+
+	@Override
+	public String toString() {
+		return Arrays.toString(toArray());
+	}
+
+	public static void main(String[] args) {
+		IntQueue queue = new IntQueue();
+		queue.enQueue(1);
+		queue.enQueue(2);
+		queue.addFirst(0);
+		queue.addLast(3);
+		System.out.println(queue + ", peek: " + queue.peek() + ", peek last: " + queue.peekLast());
+		System.out.println("Dequeued: " + queue.deQueue() + ", poll last: " + queue.pollLast());
+		System.out.println(queue);
+
+		for(int i=0;i<1000000;i++){
+			queue.enQueue(i);
+			queue.deQueue();
+		}
+		System.out.println("Capacity after a million enqueue and dequeue: " + queue.capacity());
+	}
+}
@@ -1,12 +1,88 @@
 package com.datastructures.linear;
 
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
- * 
+ * <p>Bulk methods, <code>spliterator</code> and <code>stream</code> have default implementations on top of <code>add</code>, <code>size</code> and <code>iterator</code>,
+ * so every list can be used in for each loops and stream pipelines. Implementations override them where they can do better than going through the iterator.</p>
+ *
  * @author Sasi on 03-May-2018, 8:15:47 pm
  *
  */
-public interface List<T> {
+public interface List<T> extends Iterable<T> {
 	public T add(T t);
 	public T get(int index) throws ArrayIndexOutOfBoundsException;
-	public boolean remove(T t) throws Exception;
+
+	/**
+	 * @return true if element was found and removed
+	 */
+	public boolean remove(T t);
+
+	public int size();
+
+	/**
+	 * Iterator must support <code>remove</code>, default <code>removeIf</code> uses it.
+	 */
+	@Override
+	public Iterator<T> iterator();
+
+	public default boolean isEmpty(){
+		return size() == 0;
+	}
+
+	/**
+	 * @return true if list has an element equal to given element
+	 */
+	public default boolean contains(T t){
+		for(T element : this){
+			if(null == t ? null == element : t.equals(element)){
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Adds elements in collection's iteration order, same as calling <code>add</code> for each of them.
+	 * @return true if list changed
+	 */
+	public default boolean addAll(Collection<? extends T> elements){
+		for(T element : elements){
+			add(element);
+		}
+		return !elements.isEmpty();
+	}
+
+	/**
+	 * Removes all elements matching the filter in a single pass of the iterator.
+	 * @return true if any element was removed
+	 */
+	public default boolean removeIf(Predicate<? super T> filter){
+		boolean removed = false;
+		for(Iterator<T> iterator = iterator(); iterator.hasNext();){
+			if(filter.test(iterator.next())){
+				iterator.remove();
+				removed = true;
+			}
+		}
+		return removed;
+	}
+
+	/**
+	 * Spliterator knows the exact size, so streams can presize arrays and split work for parallel streams.
+	 */
+	@Override
+	public default Spliterator<T> spliterator(){
+		return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED);
+	}
+
+	public default Stream<T> stream(){
+		return StreamSupport.stream(spliterator(), false);
+	}
 }
@@ -0,0 +1,215 @@
+package com.datastructures.linear;
+
+import java.util.Arrays;
+
+/**
+ * <p><code>LongObjectHashMap</code> is a primitive specialization of {@link OpenAddressingHashMap} for <code>long</code> keys. Keys are kept in a flat <code>long[]</code> so they are never boxed.</p>
+ *
+ * <p>Key 0 is used to mark an empty slot in keys array, so value for key 0 is stored separately outside of table.</p>
+ *
+ * @author Sasi on 18-Oct-2026, 10:48:05 am
+ */
+public class LongObjectHashMap<V> {
+
+	private long[] keys;
+	private Object[] values;
+	private float balanceFactor;
+	private int mask;
+	private int threshold;
+	private int size;
+
+	private boolean hasZeroKey;
+	private V zeroValue;
+
+	public LongObjectHashMap() {
+		this(16);
+	}
+
+	public LongObjectHashMap(int expectedSize) {
+		super();
+		balanceFactor = 0.7f;
+		allocate(OpenAddressingHashMap.tableSizeFor(expectedSize, balanceFactor));
+	}
+
+	/**
+	 * @param key
+	 * @param value
+	 * @return previous value for the key, or null if key is new
+	 */
+	@SuppressWarnings("unchecked")
+	public V put(long key, V value){
+		if(key == 0){
+			V oldValue = zeroValue;
+			zeroValue = value;
+			if(!hasZeroKey){
+				hasZeroKey = true;
+				size++;
+			}
+			return oldValue;
+		}
+
+		int index = mix(key) & mask;
+		for(long current; (current = keys[index]) != 0; index = (index + 1) & mask){
+			if(current == key){
+				V oldValue = (V) values[index];
+				values[index] = value;
+				return oldValue;
+			}
+		}
+
+		keys[index] = key;
+		values[index] = value;
+
+		//Checking if map size is reached balance factor
+		if(++size > threshold){
+			rehash(keys.length * 2);
+		}
+		return null;
+	}
+
+	@SuppressWarnings("unchecked")
+	public V get(long key){
+		if(key == 0){
+			return zeroValue;
+		}
+		int index = indexOf(key);
+		return index < 0 ? null : (V) values[index];
+	}
+
+	public boolean containsKey(long key){
+		return key == 0 ? hasZeroKey : indexOf(key) >= 0;
+	}
+
+	/**
+	 * @param key
+	 * @return removed value, or null if key doesn't exist
+	 */
+	@SuppressWarnings("unchecked")
+	public V remove(long key){
+		if(key == 0){
+			V oldValue = zeroValue;
+			if(hasZeroKey){
+				hasZeroKey = false;
+				zeroValue = null;
+				size--;
+			}
+			return oldValue;
+		}
+
+		int index = indexOf(key);
+		if(index < 0){
+			return null;
+		}
+
+		V oldValue = (V) values[index];
+		shiftKeys(index);
+		size--;
+		return oldValue;
+	}
+
+	public int size(){
+		return size;
+	}
+
+	public boolean isEmpty(){
+		return size == 0;
+	}
+
+	public void clear(){
+		Arrays.fill(keys, 0);
+		Arrays.fill(values, null);
+		hasZeroKey = false;
+		zeroValue = null;
+		size = 0;
+	}
+
+	private int indexOf(long key){
+		int index = mix(key) & mask;
+		for(long current; (current = keys[index]) != 0; index = (index + 1) & mask){
+			if(current == key){
+				return index;
+			}
+		}
+		return -1;
+	}
+
+	//Backward shift deletion, see OpenAddressingHashMap.shiftKeys
+	private void shiftKeys(int freeIndex){
+		int index = freeIndex;
+		while(true){
+			index = (index + 1) & mask;
+			long current = keys[index];
+			if(current == 0){
+				break;
+			}
+
+			int home = mix(current) & mask;
+			if(((index - home) & mask) >= ((index - freeIndex) & mask)){
+				keys[freeIndex] = current;
+				values[freeIndex] = values[index];
+				freeIndex = index;
+			}
+		}
+		keys[freeIndex] = 0;
+		values[freeIndex] = null;
+	}
+
+	private void rehash(int newLength){
+		long[] oldKeys = keys;
+		Object[] oldValues = values;
+		allocate(newLength);
+
+		for(int i=0;i<oldKeys.length;i++){
+			long k = oldKeys[i];
+			if(k != 0){
+				int index = mix(k) & mask;
+				while(keys[index] != 0){
+					index = (index + 1) & mask;
+				}
+				keys[index] = k;
+				values[index] = oldValues[i];
+			}
+		}
+	}
+
+	private void allocate(int length){
+		keys = new long[length];
+		values = new Object[length];
+		mask = length - 1;
+		threshold = (int) (length * balanceFactor);
+	}
+
+	private static int mix(long key){
+		long h = key * 0x9E3779B97F4A7C15L;
+		return (int) (h ^ (h >>> 32));
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("[");
+		if(hasZeroKey){
+			builder.append(0).append(" = ").append(zeroValue).append(",");
+		}
+		for(int i=0;i<keys.length;i++){
+			if(keys[i] != 0){
+				builder.append(keys[i]).append(" = ").append(values[i]).append(",");
+			}
+		}
+		builder.append("]");
+		return builder.toString();
+	}
+
+	public static void main(String[] args) {
+		LongObjectHashMap<String> map = new LongObjectHashMap<>();
+		map.put(0L, "zero");
+		map.put(1L, "one");
+		map.put(1L << 40, "two power forty");
+		map.put(-7L, "minus seven");
+		System.out.println(map);
+
+		System.out.println("Value for key 1: " + map.get(1L));
+		System.out.println("Removing key 0: " + map.remove(0L));
+		System.out.println(map + " size: " + map.size());
+	}
+}
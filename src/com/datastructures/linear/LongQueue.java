@@ -0,0 +1,170 @@
+package com.datastructures.linear;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * <p><code>LongQueue</code> is a primitive specialization of {@link Queue} for <code>long</code> elements. Elements are kept in a circular <code>long[]</code>,
+ * so they are neither boxed nor referenced from an object array, and growing and shrinking work the same as in {@link Queue}.</p>
+ *
+ * <p>Since <code>long</code> can't be null, removing or peeking from an empty queue throws {@link NoSuchElementException}, check <code>isEmpty</code> first.</p>
+ *
+ * @author Sasi on 19-Oct-2026, 10:34:48 pm
+ */
+public class LongQueue {
+
+	private long[] queue;
+	private int head, size, mask;
+
+	public LongQueue() {
+		this(Queue.MIN_CAPACITY);
+	}
+
+	/**
+	 * @param initialCapacity rounded up to a power of two
+	 */
+	public LongQueue(int initialCapacity) {
+		super();
+		queue = new long[Queue.capacityFor(initialCapacity)];
+		mask = queue.length - 1;
+	}
+
+	public void enQueue(long value){
+		addLast(value);
+	}
+
+	public long deQueue(){
+		return pollFirst();
+	}
+
+	public void addLast(long value){
+		if(size == queue.length){
+			resize(queue.length << 1);
+		}
+		queue[(head + size) & mask] = value;
+		size++;
+	}
+
+	public void addFirst(long value){
+		if(size == queue.length){
+			resize(queue.length << 1);
+		}
+		head = (head - 1) & mask;
+		queue[head] = value;
+		size++;
+	}
+
+	public long pollFirst(){
+		checkNotEmpty();
+		long value = queue[head];
+		head = (head + 1) & mask;
+		size--;
+		shrinkIfSparse();
+		return value;
+	}
+
+	public long pollLast(){
+		checkNotEmpty();
+		long value = queue[(head + size - 1) & mask];
+		size--;
+		shrinkIfSparse();
+		return value;
+	}
+
+	public long peek(){
+		checkNotEmpty();
+		return queue[head];
+	}
+
+	public long peekLast(){
+		checkNotEmpty();
+		return queue[(head + size - 1) & mask];
+	}
+
+	/**
+	 * @param index position from first element
+	 */
+	public long get(int index){
+		if(index < 0 || index >= size){
+			throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+		}
+		return queue[(head + index) & mask];
+	}
+
+	private void checkNotEmpty(){
+		if(size == 0){
+			throw new NoSuchElementException("Queue is empty");
+		}
+	}
+
+	private void shrinkIfSparse(){
+		if(size <= (queue.length >> 2) && queue.length > Queue.MIN_CAPACITY){
+			resize(queue.length >> 1);
+		}
+	}
+
+	private void resize(int capacity){
+		long[] resized = new long[capacity];
+		int firstPart = Math.min(size, queue.length - head);
+		System.arraycopy(queue, head, resized, 0, firstPart);
+		System.arraycopy(queue, 0, resized, firstPart, size - firstPart);
+		queue = resized;
+		mask = capacity - 1;
+		head = 0;
+	}
+
+	public void clear(){
+		queue = new long[Queue.MIN_CAPACITY];
+		mask = Queue.MIN_CAPACITY - 1;
+		head = 0;
+		size = 0;
+	}
+
+	public int size(){
+		return size;
+	}
+
+	public boolean isEmpty(){
+		return size == 0;
+	}
+
+	/**
+	 * @return length of backing array
+	 */
+	public int capacity(){
+		return queue.length;
+	}
+
+	/**
+	 * @return elements from first to last
+	 */
+	public long[] toArray(){
+		long[] elements = new long[size];
+		int firstPart = Math.min(size, queue.length - head);
+		System.arraycopy(queue, head, elements, 0, firstPart);
+		System.arraycopy(queue, 0, elements, firstPart, size - firstPart);
+		return elements;
+	}
+
+	@Override
+	public String toString() {
+		return Arrays.toString(toArray());
+	}
+
+	public static void main(String[] args) {
+		LongQueue queue = new LongQueue();
+		queue.enQueue(1L << 40);
+		queue.enQueue(2L << 40);
+		queue.addFirst(0);
+		queue.addLast(3L << 40);
+		System.out.println(queue + ", peek: " + queue.peek() + ", peek last: " + queue.peekLast());
+		System.out.println("Dequeued: " + queue.deQueue() + ", poll last: " + queue.pollLast());
+		System.out.println(queue);
+
+		for(long i=0;i<1000000;i++){
+			queue.enQueue(i);
+			queue.deQueue();
+		}
+		System.out.println("Capacity after a million enqueue and dequeue: " + queue.capacity());
+	}
+}
@@ -0,0 +1,199 @@
+package com.datastructures.linear;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.LongConsumer;
+
+/**
+ * <p><code>LongStack</code> is a primitive specialization of {@link Stack} for <code>long</code> elements. Elements are kept in a <code>long[]</code>, so push and pop never allocate once capacity is reached.</p>
+ *
+ * <p>Array doubles when full and by default never shrinks, so capacity is reused when stack is emptied and filled again.
+ * With shrink enabled it halves when only a quarter of it is used, but never below initial capacity. Since <code>long</code> can't be null, popping or peeking an empty stack throws {@link NoSuchElementException}.</p>
+ *
+ * @author Sasi on 19-Oct-2026, 11:29:14 pm
+ */
+public class LongStack {
+
+	private long[] stack;
+	private int size;
+	private final int initialCapacity;
+	private final boolean shrink;
+
+	public LongStack() {
+		this(16, false);
+	}
+
+	/**
+	 * @param initialCapacity
+	 * @param shrink true to halve the array when only a quarter of it is used
+	 */
+	public LongStack(int initialCapacity, boolean shrink) {
+		super();
+		if(initialCapacity < 1){
+			throw new IllegalArgumentException("Initial capacity must be at least 1: " + initialCapacity);
+		}
+		stack = new long[initialCapacity];
+		this.initialCapacity = initialCapacity;
+		this.shrink = shrink;
+	}
+
+	public void push(long value){
+		if(size == stack.length){
+			grow(size + 1);
+		}
+		stack[size++] = value;
+	}
+
+	public long pop(){
+		if(size == 0){
+			throw new NoSuchElementException("Stack is empty");
+		}
+		long value = stack[--size];
+		if(shrink){
+			shrinkIfSparse();
+		}
+		return value;
+	}
+
+	public long peek(){
+		if(size == 0){
+			throw new NoSuchElementException("Stack is empty");
+		}
+		return stack[size - 1];
+	}
+
+	/**
+	 * Pushes values in array order, so last value of the array ends up on top.
+	 */
+	public void pushAll(long[] values){
+		pushAll(values, 0, values.length);
+	}
+
+	public void pushAll(long[] values, int offset, int length){
+		if(offset < 0 || length < 0 || offset > values.length - length){
+			throw new IndexOutOfBoundsException("Offset: " + offset + ", length: " + length + ", array length: " + values.length);
+		}
+		if(size + length > stack.length){
+			grow(size + length);
+		}
+		System.arraycopy(values, offset, stack, size, length);
+		size += length;
+	}
+
+	/**
+	 * Pops as many elements as fit in target, or all of them if stack is smaller.
+	 * @param target filled from index 0 in pop order, so top element goes first
+	 * @return number of elements popped
+	 */
+	public int popInto(long[] target){
+		int count = Math.min(size, target.length);
+		for(int i=0;i<count;i++){
+			target[i] = stack[size - 1 - i];
+		}
+		size -= count;
+		if(shrink){
+			shrinkIfSparse();
+		}
+		return count;
+	}
+
+	/**
+	 * Visits elements from top to bottom, in the order they would be popped, without allocating an iterator.
+	 */
+	public void forEach(LongConsumer action){
+		long[] stack = this.stack;
+		for(int i=size-1;i>=0;i--){
+			action.accept(stack[i]);
+		}
+	}
+
+	private void grow(int minCapacity){
+		if(minCapacity < 0){
+			throw new OutOfMemoryError("Stack size exceeds maximum array length");
+		}
+		int newCapacity = stack.length << 1;
+		if(newCapacity - minCapacity < 0){
+			newCapacity = minCapacity;
+		}
+		stack = Arrays.copyOf(stack, newCapacity);
+	}
+
+	private void shrinkIfSparse(){
+		int halfCapacity = stack.length >> 1;
+		if(size <= (stack.length >> 2) && halfCapacity >= initialCapacity){
+			stack = Arrays.copyOf(stack, halfCapacity);
+		}
+	}
+
+	/**
+	 * Shrinks array to number of elements, or to initial capacity if stack is smaller than that.
+	 */
+	public void trimToSize(){
+		int capacity = Math.max(size, initialCapacity);
+		if(capacity < stack.length){
+			stack = Arrays.copyOf(stack, capacity);
+		}
+	}
+
+	/**
+	 * Removes all elements and keeps capacity.
+	 */
+	public void clear(){
+		size = 0;
+	}
+
+	public int size(){
+		return size;
+	}
+
+	public boolean isEmpty(){
+		return size == 0;
+	}
+
+	/**
+	 * @return length of backing array
+	 */
+	public int capacity(){
+		return stack.length;
+	}
+
+	/**
+	 * @return elements from bottom to top
+	 */
+	public long[] toArray(){
+		return Arrays.copyOf(stack, size);
+	}
+
+	@Override
+	public String toString() {
+		return Arrays.toString(toArray());
+	}
+
+	public static void main(String[] args) {
+		LongStack stack = new LongStack();
+		stack.push(12);
+		stack.push(13);
+		stack.push(14);
+		System.out.println(stack + ", top element: " + stack.peek());
+		System.out.println("Element pop: " + stack.pop() + ", size of stack: " + stack.size());
+
+		stack.pushAll(new long[]{20, 21, 22, 23});
+		System.out.print("Top to bottom:");
+		stack.forEach(value -> System.out.print(" " + value));
+		System.out.println();
+
+		long[] popped = new long[4];
+		int count = stack.popInto(popped);
+		System.out.println("Popped " + count + ": " + Arrays.toString(popped) + ", left: " + stack);
+
+		LongStack shrinking = new LongStack(16, true);
+		for(int i=0;i<1000000;i++){
+			shrinking.push(i);
+		}
+		System.out.println("Capacity with " + shrinking.size() + " elements: " + shrinking.capacity());
+		while(shrinking.size() > 10){
+			shrinking.pop();
+		}
+		System.out.println("Capacity with " + shrinking.size() + " elements: " + shrinking.capacity());
+	}
+}
@@ -0,0 +1,378 @@
+package com.datastructures.linear;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * <p><code>MappedHashMap</code> is a persistent, off-heap variant of {@link HashMap} for fixed width <code>byte[]</code> keys and values.
+ * Header, bucket array and entries all live in a memory-mapped file, so a map can be reopened instantly without reading or deserializing anything.</p>
+ *
+ * <p>It uses separate chaining like {@link HashMap}. Bucket array holds, for every bucket, number of the first entry in its chain, and each entry holds number of next entry.
+ * Entries are only ever appended: put of an existing key appends a new entry at head of the chain which hides older one, and remove appends a tombstone entry.
+ * So space of a file is fixed by its capacity, which is number of entries (not keys) it can hold.</p>
+ *
+ * <p>File layout (all ints are big endian):</p>
+ * <pre>
+ *  header  : magic, version, keySize, valueSize, numberOfBuckets, capacity, entryCount, size (64 bytes)
+ *  buckets : int[numberOfBuckets], entry number plus one of chain head, 0 for empty bucket
+ *  entries : capacity * (next, hash, flags, key bytes, value bytes), padded to 4 bytes
+ * </pre>
+ *
+ * <p>There must be only one writer. Any number of threads can read concurrently with the writer: entry is written completely before it is published
+ * into its bucket with a release write, and readers load bucket heads with acquire reads, so they never see a partially written entry.</p>
+ *
+ * @author Sasi on 18-Oct-2026, 5:40:27 pm
+ */
+public class MappedHashMap implements Closeable {
+
+	private static final int MAGIC = 0x4D48534D;
+	private static final int VERSION = 1;
+
+	//Header offsets
+	private static final int KEY_SIZE_OFFSET = 8;
+	private static final int VALUE_SIZE_OFFSET = 12;
+	private static final int BUCKETS_OFFSET_IN_HEADER = 16;
+	private static final int CAPACITY_OFFSET = 20;
+	private static final int ENTRY_COUNT_OFFSET = 24;
+	private static final int SIZE_OFFSET = 28;
+	private static final int HEADER_SIZE = 64;
+
+	//Entry offsets
+	private static final int NEXT_OFFSET = 0;
+	private static final int HASH_OFFSET = 4;
+	private static final int FLAGS_OFFSET = 8;
+	private static final int ENTRY_HEADER_SIZE = 12;
+	private static final int TOMBSTONE = 1;
+
+	private static final int MAXIMUM_BUCKETS = 1 << 28;
+
+	//Upper limit of a single mapping, entries region is split into chunks of this size since one mapping can't exceed 2GB
+	private static final int CHUNK_SIZE = 1 << 30;
+
+	private static final VarHandle INT_HANDLE = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+
+	private final FileChannel channel;
+	private final boolean readOnly;
+	private final int keySize;
+	private final int valueSize;
+	private final int numberOfBuckets;
+	private final int capacity;
+	private final int entrySize;
+	private final int entriesPerChunk;
+
+	//Header and bucket array
+	private final MappedByteBuffer bucketBuffer;
+	private final MappedByteBuffer[] entryChunks;
+
+	private MappedHashMap(FileChannel channel, boolean readOnly, int keySize, int valueSize, int numberOfBuckets, int capacity) throws IOException {
+		super();
+		this.channel = channel;
+		this.readOnly = readOnly;
+		this.keySize = keySize;
+		this.valueSize = valueSize;
+		this.numberOfBuckets = numberOfBuckets;
+		this.capacity = capacity;
+		this.entrySize = (ENTRY_HEADER_SIZE + keySize + valueSize + 3) & ~3;
+		this.entriesPerChunk = CHUNK_SIZE / entrySize;
+
+		MapMode mode = readOnly ? MapMode.READ_ONLY : MapMode.READ_WRITE;
+		long entriesOffset = entriesOffset(numberOfBuckets);
+		bucketBuffer = channel.map(mode, 0, entriesOffset);
+
+		int chunks = (int) ((capacity + (long) entriesPerChunk - 1) / entriesPerChunk);
+		entryChunks = new MappedByteBuffer[chunks];
+		for(int i=0;i<chunks;i++){
+			long entries = Math.min(entriesPerChunk, capacity - (long) i * entriesPerChunk);
+			entryChunks[i] = channel.map(mode, entriesOffset + (long) i * entriesPerChunk * entrySize, entries * entrySize);
+		}
+	}
+
+	/**
+	 * Creates a new map file, replacing existing file if any.
+	 *
+	 * @param file
+	 * @param keySize length of every key in bytes
+	 * @param valueSize length of every value in bytes
+	 * @param capacity maximum number of entries, every put and remove takes one entry
+	 * @return
+	 * @throws IOException
+	 */
+	public static MappedHashMap create(Path file, int keySize, int valueSize, int capacity) throws IOException {
+		if(keySize <= 0 || valueSize < 0 || capacity <= 0 || capacity == Integer.MAX_VALUE){
+			throw new IllegalArgumentException("Invalid key size, value size or capacity");
+		}
+		if(ENTRY_HEADER_SIZE + (long) keySize + valueSize > CHUNK_SIZE){
+			throw new IllegalArgumentException("Entry is too large");
+		}
+
+		//Smallest power of two for which capacity stays below balance factor 0.7
+		long required = (long) (capacity / 0.7f) + 1;
+		int numberOfBuckets = 1;
+		while(numberOfBuckets < required && numberOfBuckets < MAXIMUM_BUCKETS){
+			numberOfBuckets <<= 1;
+		}
+
+		FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+				StandardOpenOption.READ, StandardOpenOption.WRITE);
+		try{
+			MappedHashMap map = new MappedHashMap(channel, false, keySize, valueSize, numberOfBuckets, capacity);
+			MappedByteBuffer header = map.bucketBuffer;
+			header.putInt(KEY_SIZE_OFFSET, keySize);
+			header.putInt(VALUE_SIZE_OFFSET, valueSize);
+			header.putInt(BUCKETS_OFFSET_IN_HEADER, numberOfBuckets);
+			header.putInt(CAPACITY_OFFSET, capacity);
+			header.putInt(ENTRY_COUNT_OFFSET, 0);
+			header.putInt(SIZE_OFFSET, 0);
+			header.putInt(4, VERSION);
+
+			//Magic is written at last, so a file whose creation didn't complete is never opened
+			header.putInt(0, MAGIC);
+			return map;
+		}catch(IOException | RuntimeException e){
+			channel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Opens an existing map file. Nothing is read apart from header, entries are accessed directly through mapped memory.
+	 *
+	 * @param file
+	 * @param readOnly
+	 * @return
+	 * @throws IOException
+	 */
+	public static MappedHashMap open(Path file, boolean readOnly) throws IOException {
+		FileChannel channel = readOnly ? FileChannel.open(file, StandardOpenOption.READ)
+				: FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		try{
+			MappedByteBuffer header = channel.map(MapMode.READ_ONLY, 0, HEADER_SIZE);
+			if(header.getInt(0) != MAGIC || header.getInt(4) != VERSION){
+				throw new IOException("Not a MappedHashMap file: " + file);
+			}
+
+			return new MappedHashMap(channel, readOnly, header.getInt(KEY_SIZE_OFFSET), header.getInt(VALUE_SIZE_OFFSET),
+					header.getInt(BUCKETS_OFFSET_IN_HEADER), header.getInt(CAPACITY_OFFSET));
+		}catch(IOException | RuntimeException e){
+			channel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Copies value of given key into <code>value</code> array. Doesn't allocate anything.
+	 *
+	 * @param key
+	 * @param value array of value size to copy value into
+	 * @return true if key exists
+	 */
+	public boolean get(byte[] key, byte[] value){
+		checkLength(value, valueSize);
+
+		int entry = findEntry(key);
+		if(entry < 0){
+			return false;
+		}
+
+		entryChunks[entry / entriesPerChunk].get(entryOffset(entry) + ENTRY_HEADER_SIZE + keySize, value, 0, valueSize);
+		return true;
+	}
+
+	public byte[] get(byte[] key){
+		byte[] value = new byte[valueSize];
+		return get(key, value) ? value : null;
+	}
+
+	public boolean containsKey(byte[] key){
+		return findEntry(key) >= 0;
+	}
+
+	/**
+	 * Appends a new entry for given key and value. If key already exists new entry hides the old one.
+	 *
+	 * @param key
+	 * @param value
+	 * @return previous value for the key, or null if key is new
+	 */
+	public synchronized byte[] put(byte[] key, byte[] value){
+		checkLength(value, valueSize);
+
+		byte[] oldValue = get(key);
+		append(key, value, 0);
+
+		if(null == oldValue){
+			setSize(size() + 1);
+		}
+		return oldValue;
+	}
+
+	/**
+	 * Appends a tombstone entry for given key.
+	 *
+	 * @param key
+	 * @return removed value, or null if key doesn't exist
+	 */
+	public synchronized byte[] remove(byte[] key){
+		byte[] oldValue = get(key);
+		if(null == oldValue){
+			return null;
+		}
+
+		append(key, new byte[valueSize], TOMBSTONE);
+		setSize(size() - 1);
+		return oldValue;
+	}
+
+	public int size(){
+		return (int) INT_HANDLE.getAcquire(bucketBuffer, SIZE_OFFSET);
+	}
+
+	public boolean isEmpty(){
+		return size() == 0;
+	}
+
+	/**
+	 * Number of entries which can still be appended.
+	 *
+	 * @return
+	 */
+	public int remainingCapacity(){
+		return capacity - (int) INT_HANDLE.getAcquire(bucketBuffer, ENTRY_COUNT_OFFSET);
+	}
+
+	/**
+	 * Writes all changes to storage device.
+	 */
+	public void force(){
+		if(readOnly){
+			return;
+		}
+
+		bucketBuffer.force();
+		for(MappedByteBuffer chunk : entryChunks){
+			chunk.force();
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		force();
+		channel.close();
+	}
+
+	/**
+	 * Returns number of the newest entry for the key, or -1 if key doesn't exist or its newest entry is a tombstone.
+	 */
+	private int findEntry(byte[] key){
+		checkLength(key, keySize);
+
+		int hash = hash(key);
+		int bucket = hash & (numberOfBuckets - 1);
+
+		int next = (int) INT_HANDLE.getAcquire(bucketBuffer, HEADER_SIZE + 4 * bucket);
+		while(next != 0){
+			int entry = next - 1;
+			MappedByteBuffer chunk = entryChunks[entry / entriesPerChunk];
+			int offset = entryOffset(entry);
+
+			if(chunk.getInt(offset + HASH_OFFSET) == hash && keyEquals(chunk, offset + ENTRY_HEADER_SIZE, key)){
+				return chunk.getInt(offset + FLAGS_OFFSET) == TOMBSTONE ? -1 : entry;
+			}
+			next = chunk.getInt(offset + NEXT_OFFSET);
+		}
+		return -1;
+	}
+
+	private void append(byte[] key, byte[] value, int flags){
+		if(readOnly){
+			throw new UnsupportedOperationException("Map is opened as read only");
+		}
+
+		int entry = (int) INT_HANDLE.getAcquire(bucketBuffer, ENTRY_COUNT_OFFSET);
+		if(entry >= capacity){
+			throw new IllegalStateException("Map is full, capacity: " + capacity);
+		}
+
+		int hash = hash(key);
+		int bucketOffset = HEADER_SIZE + 4 * (hash & (numberOfBuckets - 1));
+		MappedByteBuffer chunk = entryChunks[entry / entriesPerChunk];
+		int offset = entryOffset(entry);
+
+		//Writing whole entry first
+		chunk.putInt(offset + NEXT_OFFSET, bucketBuffer.getInt(bucketOffset));
+		chunk.putInt(offset + HASH_OFFSET, hash);
+		chunk.putInt(offset + FLAGS_OFFSET, flags);
+		chunk.put(offset + ENTRY_HEADER_SIZE, key, 0, keySize);
+		chunk.put(offset + ENTRY_HEADER_SIZE + keySize, value, 0, valueSize);
+
+		//Then publishing it, release write makes sure readers which see new head also see its content
+		INT_HANDLE.setRelease(bucketBuffer, ENTRY_COUNT_OFFSET, entry + 1);
+		INT_HANDLE.setRelease(bucketBuffer, bucketOffset, entry + 1);
+	}
+
+	private void setSize(int size){
+		INT_HANDLE.setRelease(bucketBuffer, SIZE_OFFSET, size);
+	}
+
+	private int entryOffset(int entry){
+		return (entry % entriesPerChunk) * entrySize;
+	}
+
+	private boolean keyEquals(MappedByteBuffer chunk, int offset, byte[] key){
+		for(int i=0;i<keySize;i++){
+			if(chunk.get(offset + i) != key[i]){
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Hash must stay same across processes, so it is computed from key bytes instead of identity of array.
+	 */
+	private static int hash(byte[] key){
+		return HashMap.MURMUR3_SPREADER.applyAsInt(Arrays.hashCode(key));
+	}
+
+	private static long entriesOffset(int numberOfBuckets){
+		return HEADER_SIZE + 4L * numberOfBuckets;
+	}
+
+	private static void checkLength(byte[] array, int length){
+		if(array.length != length){
+			throw new IllegalArgumentException("Expected " + length + " bytes but got " + array.length);
+		}
+	}
+
+	public static void main(String[] args) throws IOException {
+		Path file = Files.createTempFile("mapped-hash-map", ".bin");
+
+		try(MappedHashMap map = MappedHashMap.create(file, 4, 8, 1000)){
+			map.put("key1".getBytes(StandardCharsets.US_ASCII), "value001".getBytes(StandardCharsets.US_ASCII));
+			map.put("key2".getBytes(StandardCharsets.US_ASCII), "value002".getBytes(StandardCharsets.US_ASCII));
+			map.put("key1".getBytes(StandardCharsets.US_ASCII), "value111".getBytes(StandardCharsets.US_ASCII));
+			map.remove("key2".getBytes(StandardCharsets.US_ASCII));
+			System.out.println("Size: " + map.size() + ", remaining capacity: " + map.remainingCapacity());
+		}
+
+		//Reopening doesn't load anything, lookups go straight to the mapped file
+		try(MappedHashMap map = MappedHashMap.open(file, true)){
+			byte[] value = map.get("key1".getBytes(StandardCharsets.US_ASCII));
+			System.out.println("Reopened size: " + map.size() + ", key1: " + new String(value, StandardCharsets.US_ASCII)
+					+ ", key2 exists: " + map.containsKey("key2".getBytes(StandardCharsets.US_ASCII)));
+		}
+
+		Files.delete(file);
+	}
+}
@@ -0,0 +1,238 @@
+package com.datastructures.linear;
+
+import java.util.Arrays;
+
+/**
+ * <p><code>OpenAddressingHashMap</code> is a sibling of {@link HashMap} which handles collisions with open addressing (linear probing) instead of separate chaining.</p>
+ *
+ * <p>Keys and values are stored in two flat parallel arrays, so there is no node object per entry. When a key's slot is taken we simply look at the next slot until we find the key or an empty slot.
+ * Table length is always power of two so bucket index is computed with a mask instead of modulo. Removal uses backward shifting of the following entries so no tombstones are left behind.</p>
+ *
+ * <p>Time complexities: adding - O(1), deletion - O(1) and search - O(1) on average. A hit or an in-place update never allocates.</p>
+ *
+ * @author Sasi on 18-Oct-2026, 10:12:40 am
+ */
+public class OpenAddressingHashMap<K, V> {
+
+	//Marker stored in keys array in place of null key, so that null slot always means empty
+	private static final Object NULL_KEY = new Object();
+
+	private Object[] keys;
+	private Object[] values;
+	private float balanceFactor;
+	private int mask;
+	private int threshold;
+	private int size;
+
+	public OpenAddressingHashMap() {
+		this(16);
+	}
+
+	public OpenAddressingHashMap(int expectedSize) {
+		super();
+		balanceFactor = 0.7f;
+		allocate(tableSizeFor(expectedSize, balanceFactor));
+	}
+
+	/**
+	 * Puts given key and value into map. If key already exists its value will be replaced.
+	 *
+	 * @param key
+	 * @param value
+	 * @return previous value for the key, or null if key is new
+	 */
+	@SuppressWarnings("unchecked")
+	public V put(K key, V value){
+		Object k = maskNull(key);
+		int index = mix(k.hashCode()) & mask;
+
+		//Probing until we find either the key or an empty slot
+		for(Object current; (current = keys[index]) != null; index = (index + 1) & mask){
+			if(current == k || current.equals(k)){
+				V oldValue = (V) values[index];
+				values[index] = value;
+				return oldValue;
+			}
+		}
+
+		keys[index] = k;
+		values[index] = value;
+
+		//Checking if map size is reached balance factor
+		if(++size > threshold){
+			rehash(keys.length * 2);
+		}
+		return null;
+	}
+
+	@SuppressWarnings("unchecked")
+	public V get(K key){
+		int index = indexOf(maskNull(key));
+		return index < 0 ? null : (V) values[index];
+	}
+
+	public boolean containsKey(K key){
+		return indexOf(maskNull(key)) >= 0;
+	}
+
+	/**
+	 * Removes key from the map and shifts back entries of the same probe run so that lookups never see a hole.
+	 *
+	 * @param key
+	 * @return removed value, or null if key doesn't exist
+	 */
+	@SuppressWarnings("unchecked")
+	public V remove(K key){
+		int index = indexOf(maskNull(key));
+		if(index < 0){
+			return null;
+		}
+
+		V oldValue = (V) values[index];
+		shiftKeys(index);
+		size--;
+		return oldValue;
+	}
+
+	public int size(){
+		return size;
+	}
+
+	public boolean isEmpty(){
+		return size == 0;
+	}
+
+	public void clear(){
+		Arrays.fill(keys, null);
+		Arrays.fill(values, null);
+		size = 0;
+	}
+
+	private int indexOf(Object k){
+		int index = mix(k.hashCode()) & mask;
+		for(Object current; (current = keys[index]) != null; index = (index + 1) & mask){
+			if(current == k || current.equals(k)){
+				return index;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Backward shift deletion. Starting from the freed slot, every following entry which is not at its home slot
+	 * and whose home slot is cyclically before the freed slot is moved back into it.
+	 *
+	 * @param freeIndex
+	 */
+	private void shiftKeys(int freeIndex){
+		int index = freeIndex;
+		while(true){
+			index = (index + 1) & mask;
+			Object current = keys[index];
+			if(current == null){
+				break;
+			}
+
+			int home = mix(current.hashCode()) & mask;
+
+			//Moving entry only if its home slot is not in between free slot and its current slot
+			if(((index - home) & mask) >= ((index - freeIndex) & mask)){
+				keys[freeIndex] = current;
+				values[freeIndex] = values[index];
+				freeIndex = index;
+			}
+		}
+		keys[freeIndex] = null;
+		values[freeIndex] = null;
+	}
+
+	private void rehash(int newLength){
+		Object[] oldKeys = keys;
+		Object[] oldValues = values;
+		allocate(newLength);
+
+		for(int i=0;i<oldKeys.length;i++){
+			Object k = oldKeys[i];
+			if(k != null){
+				int index = mix(k.hashCode()) & mask;
+				while(keys[index] != null){
+					index = (index + 1) & mask;
+				}
+				keys[index] = k;
+				values[index] = oldValues[i];
+			}
+		}
+	}
+
+	private void allocate(int length){
+		keys = new Object[length];
+		values = new Object[length];
+		mask = length - 1;
+		threshold = (int) (length * balanceFactor);
+	}
+
+	private static Object maskNull(Object key){
+		return key == null ? NULL_KEY : key;
+	}
+
+	/**
+	 * Spreads higher bits of hash code into lower bits, because only lower bits are used by the mask.
+	 */
+	static int mix(int hash){
+		int h = hash * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+
+	/**
+	 * Returns smallest power of two table length which can hold expected size without crossing balance factor.
+	 */
+	static int tableSizeFor(int expectedSize, float balanceFactor){
+		long required = Math.max(2, (long) Math.ceil(expectedSize / balanceFactor) + 1);
+		if(required > (1 << 30)){
+			throw new IllegalArgumentException("Expected size is too large: " + expectedSize);
+		}
+		return Integer.highestOneBit((int) (required - 1)) << 1;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("[");
+		for(int i=0;i<keys.length;i++){
+			if(keys[i] != null){
+				builder.append(keys[i] == NULL_KEY ? null : keys[i]).append(" = ").append(values[i]).append(",");
+			}
+		}
+		builder.append("]");
+		return builder.toString();
+	}
+
+	public static void main(String[] args) {
+		OpenAddressingHashMap<String, Integer> map = new OpenAddressingHashMap<>();
+		map.put("one", 1);
+		map.put("two", 2);
+		map.put(null, 123);
+		System.out.println(map);
+
+		map.remove(null);
+		System.out.println(map);
+
+		map.put("adam", 11);
+		map.put("pete", 22);
+		map.put("john", 33);
+		map.put("rachel", 44);
+		map.put("smith", 55);
+		map.put("doug", 66);
+		map.put("hall", 77);
+		map.put("adrene", 88);
+		map.put("ajay", 99);
+		System.out.println(map);
+
+		System.out.println("smith value: " + map.get("smith"));
+		System.out.println("ajay value: " + map.get("ajay"));
+
+		map.remove("hall");
+		map.remove("adrene");
+		System.out.println(map + " size: " + map.size());
+	}
+}
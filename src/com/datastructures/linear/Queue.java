@@ -4,92 +4,223 @@ import java.util.Arrays;
 
 /**
  * <p>
- *  <code>Queue</code> class represents queue data structure(first in first out) implementation containing methods enqueue to 
+ *  <code>Queue</code> class represents queue data structure(first in first out) implementation containing methods enqueue to
  * 	add objects into queue, dequeue to get first added element (FIFO) and other util methods like isEmpty and size.
  * </p>
  * <p>
- * 	
+ * 	Elements are kept in a circular array: <code>head</code> is the slot of first element and the element at position i is in slot <code>(head + i) &amp; mask</code>,
+ * 	so both ends wrap around and slots freed by dequeue are reused by later enqueues. Array length is always a power of two, it doubles when full and halves
+ * 	when only a quarter of it is used, so memory stays proportional to number of elements however long the queue runs. Since it grows at full and shrinks
+ * 	at a quarter, a resize is always followed by at least a quarter of capacity operations before the next one.
+ * </p>
+ * <p>
+ * 	Elements can be added and removed at both ends, so it can be used as a deque too. See {@link IntQueue} and {@link LongQueue} for primitive elements.
  * </p>
  * @author Sasi on 06-May-2018, 12:51:12 PM
  */
 public class Queue<T> {
 
+	static final int MIN_CAPACITY = 16;
+
 	private Object[] queue;
-	private int rear, front, size;
-	
+	private int head, size, mask;
+
 	public Queue(){
-		queue = new Object[10];
-		rear = -1;
-		front = -1;
+		this(MIN_CAPACITY);
+	}
+
+	/**
+	 * @param initialCapacity rounded up to a power of two
+	 */
+	public Queue(int initialCapacity){
+		queue = new Object[capacityFor(initialCapacity)];
+		mask = queue.length - 1;
+		head = 0;
 		size = 0;
 	}
-	
-	public T enQueue(T t){
-		
-		//Checking if we reached to last in array
-		if(front == (queue.length -1)){
-			queue = Arrays.copyOf(queue, 2 * size);
+
+	/**
+	 * @return smallest power of two which is at least capacity and MIN_CAPACITY
+	 */
+	static int capacityFor(int capacity){
+		if(capacity < 0 || capacity > (1 << 30)){
+			throw new IllegalArgumentException("Capacity must be between 0 and 2^30: " + capacity);
 		}
-		
-		queue[++front] = t;
-		size++;
+		int length = Integer.highestOneBit(Math.max(capacity, MIN_CAPACITY));
+		return length < capacity ? length << 1 : length;
+	}
+
+	/**
+	 * Adds element at the end of queue.
+	 */
+	public T enQueue(T t){
+		addLast(t);
 		return t;
 	}
-	
+
+	/**
+	 * @return first element after removing it, or null if queue is empty
+	 */
 	public T deQueue(){
-		
-		if(rear == front || size == 0){
+		return pollFirst();
+	}
+
+	public void addLast(T t){
+		if(size == queue.length){
+			resize(queue.length << 1);
+		}
+		queue[(head + size) & mask] = t;
+		size++;
+	}
+
+	public void addFirst(T t){
+		if(size == queue.length){
+			resize(queue.length << 1);
+		}
+		head = (head - 1) & mask;
+		queue[head] = t;
+		size++;
+	}
+
+	@SuppressWarnings("unchecked")
+	public T pollFirst(){
+		if(size == 0){
 			return null;
 		}
-		
-		T t =  (T) queue[++rear];
-		queue[rear] = null;
+		T t = (T) queue[head];
+		queue[head] = null;
+		head = (head + 1) & mask;
 		size--;
-		
-		//If rear is equals to front then queue has elements so reseting rear and front initial indexes
-		if(rear == front){
-			rear = -1;
-			front = -1;
+		shrinkIfSparse();
+		return t;
+	}
+
+	@SuppressWarnings("unchecked")
+	public T pollLast(){
+		if(size == 0){
+			return null;
 		}
-		
+		int tail = (head + size - 1) & mask;
+		T t = (T) queue[tail];
+		queue[tail] = null;
+		size--;
+		shrinkIfSparse();
 		return t;
 	}
-	
+
+	/**
+	 * @return first element without removing it, or null if queue is empty
+	 */
+	@SuppressWarnings("unchecked")
+	public T peek(){
+		return size == 0 ? null : (T) queue[head];
+	}
+
+	@SuppressWarnings("unchecked")
+	public T peekLast(){
+		return size == 0 ? null : (T) queue[(head + size - 1) & mask];
+	}
+
+	/**
+	 * @param index position from first element
+	 */
+	@SuppressWarnings("unchecked")
+	public T get(int index){
+		if(index < 0 || index >= size){
+			throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+		}
+		return (T) queue[(head + index) & mask];
+	}
+
+	private void shrinkIfSparse(){
+		if(size <= (queue.length >> 2) && queue.length > MIN_CAPACITY){
+			resize(queue.length >> 1);
+		}
+	}
+
+	//Copying elements in order to start of new array, in at most two parts if they wrap around
+	private void resize(int capacity){
+		Object[] resized = new Object[capacity];
+		int firstPart = Math.min(size, queue.length - head);
+		System.arraycopy(queue, head, resized, 0, firstPart);
+		System.arraycopy(queue, 0, resized, firstPart, size - firstPart);
+		queue = resized;
+		mask = capacity - 1;
+		head = 0;
+	}
+
+	public void clear(){
+		queue = new Object[MIN_CAPACITY];
+		mask = MIN_CAPACITY - 1;
+		head = 0;
+		size = 0;
+	}
+
 	public int size(){
 		return size;
 	}
-	
+
 	public boolean isEmpty(){
 		return size == 0;
 	}
-	
+
+	/**
+	 * @return length of backing array
+	 */
+	public int capacity(){
+		return queue.length;
+	}
+
 	@Override
 	public String toString() {
-		StringBuilder builder = new StringBuilder();
-		builder.append(Arrays.toString(queue));
-		return builder.toString();
+		Object[] elements = new Object[size];
+		for(int i=0;i<size;i++){
+			elements[i] = queue[(head + i) & mask];
+		}
+		return Arrays.toString(elements);
 	}
 
 	public static void main(String[] args) {
 		Queue<Integer> queue = new Queue<>();
-		
+
 		System.out.println("Queue size: " + queue.size());
 		queue.enQueue(123);
 		queue.enQueue(234);
 		queue.enQueue(345);
 		System.out.println(queue);
-		
+
 		System.out.println("Dequeued element: " + queue.deQueue());
 		System.out.println(queue);
-		
+
 		System.out.println("Dequeued element: " + queue.deQueue());
 		System.out.println(queue);
-		
+
 		System.out.println("Dequeued element: " + queue.deQueue());
 		System.out.println(queue);
-		
+
 		System.out.println("Queue size: " + queue.size());
 		queue.enQueue(678);
 		System.out.println(queue);
+
+		queue.addFirst(567);
+		queue.addLast(789);
+		System.out.println(queue + ", peek: " + queue.peek());
+		System.out.println("Polled last: " + queue.pollLast() + ", peek last: " + queue.peekLast());
+
+		//Queue which never drains fully keeps same capacity, since slots are reused
+		for(int i=0;i<1000000;i++){
+			queue.enQueue(i);
+			queue.deQueue();
+		}
+		System.out.println("Capacity after a million enqueue and dequeue: " + queue.capacity());
+
+		for(int i=0;i<100000;i++){
+			queue.enQueue(i);
+		}
+		System.out.println("Capacity with " + queue.size() + " elements: " + queue.capacity());
+		while(queue.size() > 10){
+			queue.deQueue();
+		}
+		System.out.println("Capacity with " + queue.size() + " elements: " + queue.capacity());
 	}
 }
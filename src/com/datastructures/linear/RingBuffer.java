@@ -0,0 +1,393 @@
+package com.datastructures.linear;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * <p><code>RingBuffer</code> is a bounded lock free variant of {@link Queue} for handing elements from producer threads to a single consumer thread.
+ * Elements are kept in a power of two array used as a ring, so slots are reused and no memory is allocated after construction.</p>
+ *
+ * <p>Tail is the index of next slot to fill and head is the index of next slot to take, both keep increasing and slot of an index is <code>index &amp; mask</code>.
+ * In {@link ProducerMode#SINGLE} mode only one thread offers, so tail is just written. In {@link ProducerMode#MULTI} mode producers claim slots by compare and set on tail.</p>
+ *
+ * <p>A slot is filled with release semantics after it's claimed, and the consumer treats an empty slot as not yet published. So consumer reads tail only when it finds an empty slot, and producers read head
+ * only when their cached copy of it says buffer is full. Head and tail are in separate padded objects, so producer and consumer never write to the same cache line.</p>
+ *
+ * <p>Blocking <code>put</code> and <code>take</code> wait on a {@link WaitStrategy} between attempts. Null elements are not allowed.</p>
+ *
+ * @author Sasi on 19-Oct-2026, 9:26:03 pm
+ */
+public class RingBuffer<E> {
+
+	private static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(Object[].class);
+
+	public enum ProducerMode{
+		SINGLE, MULTI
+	}
+
+	/**
+	 * Decides what a thread does when buffer is full for <code>put</code>, or empty for <code>take</code>.
+	 */
+	@FunctionalInterface
+	public interface WaitStrategy{
+
+		/**
+		 * @param attempt number of failed attempts so far, starting from 0
+		 */
+		void idle(int attempt);
+
+		//Lowest latency, keeps the core busy
+		WaitStrategy SPIN = attempt -> Thread.onSpinWait();
+
+		//Spins for a while, then gives the core to other threads
+		WaitStrategy YIELD = attempt -> {
+			if(attempt < 100){
+				Thread.onSpinWait();
+			}else{
+				Thread.yield();
+			}
+		};
+
+		//Spins and yields for a while, then sleeps for a microsecond at a time
+		WaitStrategy PARK = attempt -> {
+			if(attempt < 100){
+				Thread.onSpinWait();
+			}else if(attempt < 200){
+				Thread.yield();
+			}else{
+				LockSupport.parkNanos(1000);
+			}
+		};
+	}
+
+	static class LeftPadding{
+		long p01, p02, p03, p04, p05, p06, p07;
+	}
+
+	static class SequenceValue extends LeftPadding{
+		volatile long value;
+	}
+
+	/**
+	 * Index padded on both sides with 56 bytes, so that nothing else is in its cache line. Fields of super class are laid out first, which keeps the padding order.
+	 */
+	static final class Sequence extends SequenceValue{
+		private static final VarHandle VALUE;
+
+		static {
+			try {
+				VALUE = MethodHandles.lookup().findVarHandle(SequenceValue.class, "value", long.class);
+			} catch (ReflectiveOperationException e) {
+				throw new ExceptionInInitializerError(e);
+			}
+		}
+
+		long p11, p12, p13, p14, p15, p16, p17;
+
+		long getPlain(){
+			return (long) VALUE.get(this);
+		}
+
+		long getAcquire(){
+			return (long) VALUE.getAcquire(this);
+		}
+
+		void setRelease(long newValue){
+			VALUE.setRelease(this, newValue);
+		}
+
+		boolean compareAndSet(long expected, long newValue){
+			return VALUE.compareAndSet(this, expected, newValue);
+		}
+	}
+
+	private final Object[] buffer;
+	private final int mask;
+	private final ProducerMode producerMode;
+	private final WaitStrategy waitStrategy;
+
+	private final Sequence head;
+	private final Sequence tail;
+	//Producers' last read of head, refreshed only when buffer looks full
+	private final Sequence headCache;
+
+	public RingBuffer(int capacity) {
+		this(capacity, ProducerMode.MULTI, WaitStrategy.YIELD);
+	}
+
+	/**
+	 * @param capacity rounded up to a power of two
+	 * @param producerMode SINGLE only if exactly one thread ever offers
+	 * @param waitStrategy used by put and take
+	 */
+	public RingBuffer(int capacity, ProducerMode producerMode, WaitStrategy waitStrategy) {
+		super();
+		if(capacity < 1 || capacity > (1 << 30)){
+			throw new IllegalArgumentException("Capacity must be between 1 and 2^30: " + capacity);
+		}
+		if(null == producerMode || null == waitStrategy){
+			throw new NullPointerException();
+		}
+
+		int length = Integer.highestOneBit(capacity);
+		if(length < capacity){
+			length <<= 1;
+		}
+		buffer = new Object[length];
+		mask = length - 1;
+		this.producerMode = producerMode;
+		this.waitStrategy = waitStrategy;
+		head = new Sequence();
+		tail = new Sequence();
+		headCache = new Sequence();
+	}
+
+	/**
+	 * Claims up to <code>count</code> slots starting from tail.
+	 * @return first claimed index, number of claimed slots is returned through claimed[0]. Returns -1 if buffer is full
+	 */
+	private long claim(int count, int[] claimed){
+		long capacity = buffer.length;
+		while(true){
+			long currentTail = producerMode == ProducerMode.SINGLE ? tail.getPlain() : tail.getAcquire();
+			long available = headCache.getAcquire() + capacity - currentTail;
+			if(available < count){
+				long currentHead = head.getAcquire();
+				headCache.setRelease(currentHead);
+				available = currentHead + capacity - currentTail;
+				if(available <= 0){
+					return -1;
+				}
+			}
+			int n = (int) Math.min(available, count);
+
+			if(producerMode == ProducerMode.SINGLE){
+				tail.setRelease(currentTail + n);
+			}else if(!tail.compareAndSet(currentTail, currentTail + n)){
+				continue;
+			}
+			claimed[0] = n;
+			return currentTail;
+		}
+	}
+
+	/**
+	 * @param element
+	 * @return false if buffer is full
+	 */
+	public boolean offer(E element){
+		if(null == element){
+			throw new NullPointerException();
+		}
+
+		long capacity = buffer.length;
+		long index;
+		if(producerMode == ProducerMode.SINGLE){
+			//Single producer owns tail, so plain read is enough. Slot is filled before tail moves, so consumer never waits on a claimed slot
+			index = tail.getPlain();
+			if(index - headCache.getPlain() >= capacity){
+				long currentHead = head.getAcquire();
+				headCache.setRelease(currentHead);
+				if(index - currentHead >= capacity){
+					return false;
+				}
+			}
+			SLOT.setRelease(buffer, (int) index & mask, element);
+			tail.setRelease(index + 1);
+			return true;
+		}
+
+		do{
+			index = tail.getAcquire();
+			if(index - headCache.getAcquire() >= capacity){
+				long currentHead = head.getAcquire();
+				headCache.setRelease(currentHead);
+				if(index - currentHead >= capacity){
+					return false;
+				}
+			}
+		}while(!tail.compareAndSet(index, index + 1));
+
+		SLOT.setRelease(buffer, (int) index & mask, element);
+		return true;
+	}
+
+	/**
+	 * Offers as many elements as there are free slots, claiming all of them with one update of tail.
+	 * @param elements
+	 * @return number of elements offered, from start of the array
+	 */
+	public int offerBatch(E[] elements){
+		for(E element : elements){
+			if(null == element){
+				throw new NullPointerException();
+			}
+		}
+		if(elements.length == 0){
+			return 0;
+		}
+
+		int[] claimed = new int[1];
+		long index = claim(elements.length, claimed);
+		if(index < 0){
+			return 0;
+		}
+		for(int i=0;i<claimed[0];i++){
+			SLOT.setRelease(buffer, (int) (index + i) & mask, elements[i]);
+		}
+		return claimed[0];
+	}
+
+	/**
+	 * Blocks on wait strategy until there is a free slot.
+	 */
+	public void put(E element){
+		for(int attempt=0; !offer(element); attempt++){
+			waitStrategy.idle(attempt);
+		}
+	}
+
+	/**
+	 * Must be called only from the consumer thread.
+	 * @return head element, or null if buffer is empty
+	 */
+	@SuppressWarnings("unchecked")
+	public E poll(){
+		long index = head.getPlain();
+		int offset = (int) index & mask;
+		Object element = SLOT.getAcquire(buffer, offset);
+		if(null == element){
+			//Slot can be claimed by a producer which hasn't filled it yet, waiting for it in that case
+			if(index == tail.getAcquire()){
+				return null;
+			}
+			do{
+				Thread.onSpinWait();
+				element = SLOT.getAcquire(buffer, offset);
+			}while(null == element);
+		}
+
+		//Emptying the slot before moving head, so producers never see a free slot which still holds an element
+		SLOT.setOpaque(buffer, offset, null);
+		head.setRelease(index + 1);
+		return (E) element;
+	}
+
+	/**
+	 * Must be called only from the consumer thread.
+	 * @return head element without removing it, or null if buffer is empty
+	 */
+	@SuppressWarnings("unchecked")
+	public E peek(){
+		long index = head.getPlain();
+		int offset = (int) index & mask;
+		Object element = SLOT.getAcquire(buffer, offset);
+		while(null == element && index != tail.getAcquire()){
+			Thread.onSpinWait();
+			element = SLOT.getAcquire(buffer, offset);
+		}
+		return (E) element;
+	}
+
+	/**
+	 * Blocks on wait strategy until an element is available. Must be called only from the consumer thread.
+	 */
+	public E take(){
+		E element;
+		for(int attempt=0; null == (element = poll()); attempt++){
+			waitStrategy.idle(attempt);
+		}
+		return element;
+	}
+
+	/**
+	 * Takes up to <code>limit</code> published elements and moves head once for all of them. Must be called only from the consumer thread.
+	 * @param consumer
+	 * @param limit
+	 * @return number of elements drained
+	 */
+	@SuppressWarnings("unchecked")
+	public int drain(Consumer<? super E> consumer, int limit){
+		long index = head.getPlain();
+		int count = 0;
+		while(count < limit){
+			int offset = (int) (index + count) & mask;
+			Object element = SLOT.getAcquire(buffer, offset);
+			if(null == element){
+				break;
+			}
+			SLOT.setOpaque(buffer, offset, null);
+			count++;
+			consumer.accept((E) element);
+		}
+		if(count > 0){
+			head.setRelease(index + count);
+		}
+		return count;
+	}
+
+	/**
+	 * @return number of elements, exact only when producers and consumer are idle
+	 */
+	public int size(){
+		//Reading head before and after tail, so that size is taken from a consistent pair
+		while(true){
+			long before = head.getAcquire();
+			long currentTail = tail.getAcquire();
+			long after = head.getAcquire();
+			if(before == after){
+				return (int) Math.max(0, Math.min(currentTail - after, buffer.length));
+			}
+		}
+	}
+
+	public boolean isEmpty(){
+		return head.getAcquire() == tail.getAcquire();
+	}
+
+	public int capacity(){
+		return buffer.length;
+	}
+
+	/**
+	 * Three producers hand over numbers to one consumer, which checks that numbers of each producer arrive in order and none is lost.
+	 */
+	public static void main(String[] args) throws InterruptedException {
+		final RingBuffer<Long> ringBuffer = new RingBuffer<>(1024, ProducerMode.MULTI, WaitStrategy.YIELD);
+		final int producers = 3;
+		final long perProducer = 1000000;
+
+		Thread[] threads = new Thread[producers];
+		for(int p=0;p<producers;p++){
+			final long producer = p;
+			threads[p] = new Thread(() -> {
+				for(long i=0;i<perProducer;i++){
+					ringBuffer.put(producer << 32 | i);
+				}
+			});
+			threads[p].start();
+		}
+
+		long[] expected = new long[producers];
+		boolean[] ordered = {true};
+		long received = 0;
+		while(received < producers * perProducer){
+			received += ringBuffer.drain(value -> {
+				int producer = (int) (value >>> 32);
+				ordered[0] &= (value & 0xFFFFFFFFL) == expected[producer]++;
+			}, 256);
+		}
+		for(Thread thread : threads){
+			thread.join();
+		}
+
+		System.out.println("Received: " + received + ", in order: " + ordered[0] + ", empty: " + ringBuffer.isEmpty());
+
+		RingBuffer<String> single = new RingBuffer<>(3, ProducerMode.SINGLE, WaitStrategy.SPIN);
+		System.out.println("Capacity: " + single.capacity());
+		System.out.println("Offered batch: " + single.offerBatch(new String[]{"a", "b", "c", "d", "e"}));
+		System.out.println("Peek: " + single.peek() + ", poll: " + single.poll() + ", size: " + single.size());
+	}
+}
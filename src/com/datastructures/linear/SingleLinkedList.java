@@ -1,11 +1,22 @@
 package com.datastructures.linear;
 
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
 /**
  * {@code SingleLinkedList} class represents implementation of single linked list contains basic operations like add, remove and get.
+ * Size is kept in a field, and bulk methods walk the nodes directly instead of calling <code>get(index)</code> for each element.
  * <br><br>
  * Time Complexities:<br>
  *  adding node    : O(1)<br>
  *  removing node  : O(n)<br>
+ *  size           : O(1)<br>
+ *  removeIf       : O(n)<br>
  * 
  * @author Sasi on 03-May-2018, 8:11:27 pm
  * @param <T>
@@ -13,6 +24,9 @@ package com.datastructures.linear;
 public class SingleLinkedList<T> implements List<T>{
 	
 	Node head;
+	int size;
+	//Number of structural changes, checked by iterators
+	int modificationCount;
 	
 	public SingleLinkedList() {
 		super();
@@ -39,6 +53,8 @@ public class SingleLinkedList<T> implements List<T>{
 
 	@Override
 	public T add(T key) {
+		size++;
+		modificationCount++;
 		
 		//Checking if head is null if so create new node and return
 		if(null == head){
@@ -55,15 +71,18 @@ public class SingleLinkedList<T> implements List<T>{
 		return key;
 	}
 
+	/**
+	 * @throws IllegalArgumentException if key is null
+	 */
 	@Override
-	public boolean remove(T key) throws Exception{
-		
-		if(null == head){
-			throw new Exception("Linked list is empty.");
+	public boolean remove(T key){
+
+		if(null == key){
+			throw new IllegalArgumentException("Key is empty");
 		}
 		
-		if(null == key){
-			throw new Exception("Key is empty");
+		if(null == head){
+			return false;
 		}
 		
 		Node current = head;
@@ -74,6 +93,8 @@ public class SingleLinkedList<T> implements List<T>{
 			//Pointing head to next node
 			head = head.nextNode;
 			current = null;
+			size--;
+			modificationCount++;
 			return true;
 		}
 		
@@ -89,6 +110,8 @@ public class SingleLinkedList<T> implements List<T>{
 				//Breaking the link between prev and current. Setting next node reference into prev node.
 				prevNode.setNextNode(current.nextNode);
 				current = null;
+				size--;
+				modificationCount++;
 				return true;
 			}
 			
@@ -102,24 +125,113 @@ public class SingleLinkedList<T> implements List<T>{
 	@Override
 	public T get(int index) throws ArrayIndexOutOfBoundsException{
 		
-		if(index == 0){
-			return head.key;
+		if(index < 0 || index >= size){
+			throw new ArrayIndexOutOfBoundsException("Index: " + index + ", size: " + size);
 		}
 		
 		Node current = head; 
-		int i=0;
-		while(current != null){
-			if(i == index){
-				return current.key; 
-			}
-			i++;
+		for(int i=0;i<index;i++){
 			current = current.nextNode;
 		}
-		
-		throw new ArrayIndexOutOfBoundsException();
+		return current.key;
 	}
 	
+	@Override
+	public int size() {
+		return size;
+	}
 	
+	/**
+	 * Unlinks every matching node while walking the list once, keeping previous node so no node is searched again.
+	 * Size is updated with every unlinked node, so if filter throws, nodes unlinked before it stay removed and size still matches the list.
+	 */
+	@Override
+	public boolean removeIf(Predicate<? super T> filter) {
+		boolean removed = false;
+
+		//Dropping matching nodes at the start, then unlinking matching nodes after the last kept node
+		while(null != head && filter.test(head.key)){
+			head = head.nextNode;
+			size--;
+			modificationCount++;
+			removed = true;
+		}
+		if(null != head){
+			Node prevNode = head;
+			for(Node current = head.nextNode; current != null; current = current.nextNode){
+				if(filter.test(current.key)){
+					prevNode.nextNode = current.nextNode;
+					size--;
+					modificationCount++;
+					removed = true;
+				}else{
+					prevNode = current;
+				}
+			}
+		}
+		return removed;
+	}
+
+	@Override
+	public void forEach(Consumer<? super T> action) {
+		for(Node current = head; current != null; current = current.nextNode){
+			action.accept(current.key);
+		}
+	}
+
+	/**
+	 * Iterator from head, its <code>remove</code> unlinks last returned node using the node before it. Changes to the list other than through iterator's <code>remove</code> make it throw {@link ConcurrentModificationException}.
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new Iterator<T>() {
+			private Node next = head;
+			//Last returned node and node before it
+			private Node lastReturned, beforeLastReturned;
+			private int expectedModificationCount = modificationCount;
+
+			@Override
+			public boolean hasNext() {
+				return null != next;
+			}
+
+			@Override
+			public T next() {
+				if(expectedModificationCount != modificationCount){
+					throw new ConcurrentModificationException();
+				}
+				if(null == next){
+					throw new NoSuchElementException();
+				}
+				//Node before last returned moves only if last returned wasn't removed
+				if(null != lastReturned){
+					beforeLastReturned = lastReturned;
+				}
+				lastReturned = next;
+				next = next.nextNode;
+				return lastReturned.key;
+			}
+
+			@Override
+			public void remove() {
+				if(null == lastReturned){
+					throw new IllegalStateException();
+				}
+				if(expectedModificationCount != modificationCount){
+					throw new ConcurrentModificationException();
+				}
+				if(null == beforeLastReturned){
+					head = next;
+				}else{
+					beforeLastReturned.nextNode = next;
+				}
+				lastReturned = null;
+				size--;
+				modificationCount++;
+				expectedModificationCount = modificationCount;
+			}
+		};
+	}
 	
 	@Override
 	public String toString() {
@@ -147,5 +259,28 @@ public class SingleLinkedList<T> implements List<T>{
 		System.out.println(linkedList);
 		
 		System.out.println("Key at index 2: " + linkedList.get(2));
+
+		linkedList.addAll(Arrays.asList(1, 2, 3, 4, 5, 6));
+		System.out.println(linkedList + ", size: " + linkedList.size());
+
+		linkedList.removeIf(key -> key % 2 == 0);
+		System.out.println("Without even keys: " + linkedList + ", size: " + linkedList.size());
+
+		//Filter fails part way, keys removed before it stay removed and size follows them
+		linkedList.addAll(Arrays.asList(-1, -2, 70, -3));
+		try{
+			linkedList.removeIf(key -> {
+				if(key > 50){
+					throw new IllegalStateException("Key too big: " + key);
+				}
+				return key < 0;
+			});
+		}catch(IllegalStateException e){
+			System.out.println("removeIf failed with: " + e.getMessage() + ", list: " + linkedList + ", size: " + linkedList.size()
+					+ ", last key: " + linkedList.get(linkedList.size() - 1));
+		}
+
+		System.out.println("Squares of positive keys: " + linkedList.stream().filter(key -> key > 0).map(key -> key * key).collect(Collectors.toList()));
+		System.out.println("Sum in parallel stream: " + linkedList.stream().parallel().mapToInt(Integer::intValue).sum());
 	}
 }
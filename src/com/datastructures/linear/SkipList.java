@@ -1,168 +1,785 @@
 package com.datastructures.linear;
 
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Random;
 
 
 /**
- * <code>SkipList</code> class represents implementation of SkipList data structure. 
+ * <code>SkipList</code> class represents implementation of SkipList data structure.
  * <p>In traditional linked list data structure insert, delete and search takes O(n) time complexity. SkipList is a variant of linked list which offers O(logn) time complexity for all operations and O(n) in worst case.</p>
  * <p>SkipList is probabilistic balancing data structure alternative to binary search trees(strict balancing data structure).</p>
+ * <p>Each key is stored in exactly one node. Node holds an array of forward pointers, one for every level the node belongs to, so a search moves down a level by reading next slot of the same array
+ * instead of following a pointer to another node.</p>
+ * <p>Number of levels is capped by expected size: with probability p, a list of n keys needs about log<sub>1/p</sub>(n) levels. Cap grows if list gets bigger than expected.</p>
+ * <p>Every forward pointer also stores its span, the number of level 0 nodes it skips over. Adding spans while searching gives position of a key, so counting keys in a range takes O(logn) instead of walking the range.
+ * Same spans give rank of a key and key at a given index in O(logn). Level 0 nodes also point back to previous node, so list can be iterated in both directions.</p>
  * @author Sasi on 09-May-2018, 12:53:45 am
  */
-public class SkipList<K extends Comparable<K>, V> {
+public class SkipList<K extends Comparable<K>, V> implements Iterable<Map.Entry<K, V>> {
 
-	private Node head;
+	//Enough levels for any int sized list with probability 0.5
+	private static final int MAX_LEVEL = 32;
+
+	private Node<K, V> head;
+	private Node<K, V> tail;
 	private Random random;
 	private int size;
 	private double probability;
-	
+
+	//Number of levels in use, always at least 1
+	private int level;
+	//Levels a new node can get, and list size after which cap is raised by one level
+	private int levelCap;
+	private double levelCapacity;
+
+	//Predecessors of a key at every level and their positions, reused by insert and delete to avoid allocating on each call
+	private Node<K, V>[] update;
+	private int[] positions;
+
 	/**
-	 *  <code>Node</code> class represents each node linked list. Each node contains key, value of node, 
-	 *  in which level it exists, pointer to next node and pointer to child level.  
+	 *  <code>Node</code> class represents each node linked list. Each node contains key, value of node,
+	 *  forward pointers to next node in every level the node exists along with their spans, and pointer to previous node in level 0.
+	 *  <p>Span of a forward pointer is difference between positions of next node and this node. If there is no next node in that level, span is number of nodes after this node.</p>
 	 */
-	private class Node{
+	private static class Node<K, V> implements Map.Entry<K, V>{
 		private K key;
 		private V value;
-		private long level;
-		private Node next;
-		private Node down;
-		public Node(K key, V value, long level, SkipList<K, V>.Node next, SkipList<K, V>.Node down) {
+		private Node<K, V>[] forward;
+		private int[] span;
+		private Node<K, V> backward;
+
+		@SuppressWarnings("unchecked")
+		public Node(K key, V value, int levels) {
 			super();
 			this.key = key;
 			this.value = value;
-			this.level = level;
-			this.next = next;  
-			this.down = down;
+			this.forward = (Node<K, V>[]) new Node<?, ?>[levels];
+			this.span = new int[levels];
+		}
+
+		@Override
+		public K getKey() {
+			return key;
+		}
+
+		@Override
+		public V getValue() {
+			return value;
+		}
+
+		@Override
+		public V setValue(V value) {
+			V oldValue = this.value;
+			this.value = value;
+			return oldValue;
+		}
+
+		@Override
+		public String toString() {
+			return key + " = " + value;
 		}
 	}
-	
+
 	public SkipList(){
-		head = new Node(null, null, 0, null, null);
+		this(1 << 16);
+	}
+
+	public SkipList(int expectedSize){
+		this(expectedSize, 0.5);
+	}
+
+	@SuppressWarnings("unchecked")
+	public SkipList(int expectedSize, double probability){
+		if(expectedSize < 0){
+			throw new IllegalArgumentException("Expected size can't be negative: " + expectedSize);
+		}
+		if(probability <= 0 || probability >= 1){
+			throw new IllegalArgumentException("Probability must be between 0 and 1: " + probability);
+		}
+
+		this.probability = probability;
 		random = new Random();
 		size = 0;
-		probability = 0.5;
+		level = 1;
+		levelCap = 1;
+		levelCapacity = 1 / probability;
+		while(levelCapacity < expectedSize && levelCap < MAX_LEVEL){
+			raiseLevelCap();
+		}
+
+		head = new Node<>(null, null, levelCap);
+		update = (Node<K, V>[]) new Node<?, ?>[levelCap];
+		positions = new int[levelCap];
+	}
+
+	private void raiseLevelCap(){
+		levelCap++;
+		levelCapacity /= probability;
 	}
 
 	/**
-	 * getLevel() method returns level in which node insertion has to happened and from the insertion goes on 
-	 * untill they are no child level exists.  
+	 * getLevel() method returns number of levels new node belongs to. Node is always in level 0, and goes one level higher each time
+	 * generated random number is less than probability, until the level cap.
 	 * @return
 	 */
-	private long getLevel(){
-		long level = 0;
-		
-		//New level should always be less than number of nodes we have in list 
-		//and generated random number should be less than .5 
-		while(level <= size && random.nextDouble() < probability){
-			level++;
+	private int getLevel(){
+		int levels = 1;
+		while(levels < levelCap && random.nextDouble() < probability){
+			levels++;
+		}
+		return levels;
+	}
+
+	/**
+	 * Walks from top level of head to level 0, and stores last node before the key in every level into <code>update</code> and its position into <code>positions</code>.
+	 * Head is at position 0, first node at position 1.
+	 * @return first node in level 0 with key greater than or equal to given key
+	 */
+	private Node<K, V> findPredecessors(K key){
+		Node<K, V> current = head, bound = null;
+		int position = 0;
+		for(int i=level-1;i>=0;i--){
+			Node<K, V> next;
+			while((next = current.forward[i]) != bound && next.key.compareTo(key) < 0){
+				position += current.span[i];
+				current = next;
+			}
+			bound = next;
+			update[i] = current;
+			positions[i] = position;
 		}
-		
-		return level;
+		return current.forward[0];
 	}
-	
+
 	/**
-	 * Insert method inserts a new node with given key and value into list.
-	 * <p>Insert method starts by getting level value which decides from which level we need to insert nodes. Level creation is completely based on randomness so we may get existing level or could be a whole new level.</p>
-	 * <p>We'll iterate through head's next pointer and see if there is no next node (or) next node value is less than the value of node to be inserted. If so create new node and attach and let the flow to goto below level.</p>
+	 * Insert method inserts a new node with given key and value into list, or replaces value if key already exists.
+	 * <p>Insert method first finds the last node before the key in every level, then gets number of levels for new node. If it's more than levels in use, head becomes predecessor in new levels.</p>
+	 * <p>New node is linked after the predecessor in each of its levels. Span of predecessor's pointer is split between predecessor and new node, and pointers in levels above new node skip over one more node.</p>
 	 *
 	 * @param key
 	 * @param value
 	 */
 	public void insert(K key, V value){
-		
-		long level = getLevel();
-		System.out.println("Node inserting at level: " + level);
-		if(level > head.level){
-			head = new Node(null, null, level, null, head);
-		}
-		
-		Node current = head, last = null;
-		while(null != current){
-			if(current.next == null || current.next.key.compareTo(key) > 0){
-				if(level >= current.level){
-					Node newNode = new Node(key, value, current.level, current.next, null);
-					
-					if(last != null){
-						last.down= newNode;
+		Node<K, V> current = findPredecessors(key);
+		if(null != current && current.key.compareTo(key) == 0){
+			current.value = value;
+		}else{
+			link(key, value);
+		}
+		clearUpdate();
+	}
+
+	/**
+	 * Links a new node after the predecessors in <code>update</code>, whose positions are in <code>positions</code>.
+	 * @return new node
+	 */
+	private Node<K, V> link(K key, V value){
+		int levels = getLevel();
+		if(levels > level){
+			for(int i=level;i<levels;i++){
+				update[i] = head;
+				positions[i] = 0;
+				head.span[i] = size;
+			}
+			level = levels;
+		}
+
+		Node<K, V> newNode = new Node<>(key, value, levels);
+		for(int i=0;i<levels;i++){
+			Node<K, V> pred = update[i];
+			int distance = positions[0] - positions[i];
+			newNode.forward[i] = pred.forward[i];
+			newNode.span[i] = pred.span[i] - distance;
+			pred.forward[i] = newNode;
+			pred.span[i] = distance + 1;
+		}
+		for(int i=levels;i<level;i++){
+			update[i].span[i]++;
+		}
+
+		newNode.backward = update[0] == head ? null : update[0];
+		if(null != newNode.forward[0]){
+			newNode.forward[0].backward = newNode;
+		}else{
+			tail = newNode;
+		}
+
+		if(++size > levelCapacity && levelCap < MAX_LEVEL){
+			growLevels();
+		}
+		return newNode;
+	}
+
+	/**
+	 * Builds the list from entries sorted by key in a single pass, without searching. Last node of every level is kept in <code>update</code>, and new node is appended after it in each of its levels.
+	 * <p>If list isn't empty, entries are merged into it instead. Equal consecutive keys replace the value, like <code>insert</code>.</p>
+	 *
+	 * @param entries entries in ascending key order
+	 * @throws IllegalArgumentException if entries aren't sorted, list keeps the entries loaded till then
+	 */
+	public void bulkLoad(Iterator<? extends Map.Entry<K, V>> entries){
+		if(!isEmpty()){
+			merge(entries);
+			return;
+		}
+
+		Arrays.fill(update, head);
+		Arrays.fill(positions, 0);
+		Node<K, V> last = null;
+		try{
+			while(entries.hasNext()){
+				Map.Entry<K, V> entry = entries.next();
+				K key = entry.getKey();
+				if(null != last){
+					int compare = key.compareTo(last.key);
+					if(compare < 0){
+						throw new IllegalArgumentException("Entries aren't sorted: " + key + " after " + last.key);
+					}
+					if(compare == 0){
+						last.value = entry.getValue();
+						continue;
+					}
+				}
+
+				int levels = getLevel();
+				Node<K, V> newNode = new Node<>(key, entry.getValue(), levels);
+				size++;
+				for(int i=0;i<levels;i++){
+					update[i].forward[i] = newNode;
+					update[i].span[i] = size - positions[i];
+					update[i] = newNode;
+					positions[i] = size;
+				}
+				level = Math.max(level, levels);
+				newNode.backward = last;
+				last = newNode;
+
+				if(size > levelCapacity && levelCap < MAX_LEVEL){
+					growLevels();
+					update[levelCap - 1] = head;
+				}
+			}
+		}finally{
+			//Spans of last pointers in every level, which point past the end
+			for(int i=0;i<level;i++){
+				update[i].span[i] = size - positions[i];
+			}
+			tail = last;
+			clearUpdate();
+		}
+	}
+
+	/**
+	 * Merges entries sorted by key into the list. Every key is searched from where previous key's search ended (finger search) instead of from the head.
+	 * <p>Fingers are predecessors of previous key. Search climbs up from level 0 while the finger's next node is still less than the key, and walks down from there.
+	 * So a key close to the previous one costs only few steps, and merging a sorted batch costs O(m log(n/m)) for m keys instead of O(m log n).</p>
+	 *
+	 * @param entries entries in ascending key order
+	 * @throws IllegalArgumentException if entries aren't sorted, list keeps the entries merged till then
+	 */
+	public void merge(Iterator<? extends Map.Entry<K, V>> entries){
+		Arrays.fill(update, head);
+		Arrays.fill(positions, 0);
+		K previous = null;
+		try{
+			while(entries.hasNext()){
+				Map.Entry<K, V> entry = entries.next();
+				K key = entry.getKey();
+				if(null != previous && key.compareTo(previous) < 0){
+					throw new IllegalArgumentException("Entries aren't sorted: " + key + " after " + previous);
+				}
+				previous = key;
+
+				//Fingers point at the node just linked for previous key, so a repeated key is never compared with it by the search below
+				if(update[0] != head && update[0].key.compareTo(key) == 0){
+					update[0].value = entry.getValue();
+					continue;
+				}
+
+				//Climbing while finger's next node is still before the key, fingers above stay valid predecessors
+				int top = 0;
+				while(top < level - 1 && null != update[top].forward[top] && update[top].forward[top].key.compareTo(key) < 0){
+					top++;
+				}
+
+				Node<K, V> current = update[top];
+				int position = positions[top];
+				for(int i=top;i>=0;i--){
+					if(positions[i] > position){
+						current = update[i];
+						position = positions[i];
+					}
+					Node<K, V> next;
+					while(null != (next = current.forward[i]) && next.key.compareTo(key) < 0){
+						position += current.span[i];
+						current = next;
 					}
-					
-					current.next = newNode;
-					//System.out.println(newNode.value + " inserted after " + current.value + " at level " + current.level);
-					last = newNode;
+					update[i] = current;
+					positions[i] = position;
+				}
+
+				Node<K, V> next = current.forward[0];
+				if(null != next && next.key.compareTo(key) == 0){
+					next.value = entry.getValue();
+					continue;
+				}
+
+				//New node is the closest predecessor for next key in its levels
+				Node<K, V> newNode = link(key, entry.getValue());
+				int newPosition = positions[0] + 1;
+				for(int i=0;i<newNode.forward.length;i++){
+					update[i] = newNode;
+					positions[i] = newPosition;
 				}
-				
-				current = current.down;
-				continue;
-			}else if(current.next.key.compareTo(key) == 0){
-				current.next.value = value;
-				return;
 			}
-			current = current.next;
+		}finally{
+			clearUpdate();
 		}
-		size++;
 	}
-	
+
+	/**
+	 * Raises level cap once list gets bigger than expected size, so that new nodes can keep going higher.
+	 */
+	private void growLevels(){
+		raiseLevelCap();
+		head.forward = Arrays.copyOf(head.forward, levelCap);
+		head.span = Arrays.copyOf(head.span, levelCap);
+		update = Arrays.copyOf(update, levelCap);
+		positions = Arrays.copyOf(positions, levelCap);
+	}
+
+	//Not holding on to nodes which may get deleted later
+	private void clearUpdate(){
+		Arrays.fill(update, 0, level, null);
+	}
+
 	public V get(K key){
-		Node current = head;
-		while(null != current){
-			if(null == current.next || current.next.key.compareTo(key) > 0){
-				current = current.down;
-				continue;
-			}else if(current.next.key.compareTo(key) < 0){
-				current = current.next;
-			}else if(current.next.key.equals(key))
-			{
-				return current.next.value;
+		Node<K, V> current = head, bound = null;
+		for(int i=level-1;i>=0;i--){
+			//Node which stopped the walk in upper level is already known to be not less than key, so it isn't compared again
+			Node<K, V> next;
+			while((next = current.forward[i]) != bound && next.key.compareTo(key) < 0){
+				current = next;
 			}
+			bound = next;
 		}
-		return null;
+		current = current.forward[0];
+		return null != current && current.key.compareTo(key) == 0 ? current.value : null;
 	}
-	
+
 	public V delete(K key){
-		Node current = head;
-		V value = null;
-		while(null != current){
-			if(null == current.next || current.next.key.compareTo(key) > 0){
-				current = current.down;
-				continue;
-			}else if(current.next.key.compareTo(key) < 0){
-				current = current.next;
-			}else if(current.next.key.equals(key))
-			{
-				value = current.next.value;
-				current.next =  current.next.next;
-				current = current.down;
-			}
-		}
-		return value;
-	}
-	
+		Node<K, V> current = findPredecessors(key);
+		if(null == current || current.key.compareTo(key) != 0){
+			clearUpdate();
+			return null;
+		}
+		unlink(current);
+		return current.value;
+	}
+
+	/**
+	 * Unlinks node from every level, <code>update</code> must hold predecessors of the node.
+	 * <p>Pointers to the node take over its span minus the node itself. Pointers in levels above the node skip over one less node.</p>
+	 */
+	private void unlink(Node<K, V> node){
+		for(int i=0;i<level;i++){
+			if(update[i].forward[i] == node){
+				update[i].span[i] += node.span[i] - 1;
+				update[i].forward[i] = node.forward[i];
+			}else{
+				update[i].span[i]--;
+			}
+		}
+		if(null != node.forward[0]){
+			node.forward[0].backward = node.backward;
+		}else{
+			tail = node.backward;
+		}
+		clearUpdate();
+
+		//Dropping levels which became empty
+		while(level > 1 && null == head.forward[level-1]){
+			level--;
+		}
+		size--;
+	}
+
+	/**
+	 * Rank is the index of key in ascending order, it's found by adding up spans while searching the key.
+	 *
+	 * @param key
+	 * @return index of the key if it exists, otherwise <code>(-(insertion point) - 1)</code> like <code>Arrays.binarySearch</code>
+	 */
+	public int rank(K key){
+		Node<K, V> current = head, bound = null;
+		int position = 0;
+		for(int i=level-1;i>=0;i--){
+			Node<K, V> next;
+			while((next = current.forward[i]) != bound && next.key.compareTo(key) < 0){
+				position += current.span[i];
+				current = next;
+			}
+			bound = next;
+		}
+		current = current.forward[0];
+		return null != current && current.key.compareTo(key) == 0 ? position : -position - 1;
+	}
+
+	/**
+	 * Follows a pointer whenever its span doesn't go past the wanted position, so it reaches the node in O(logn) like a key search.
+	 *
+	 * @param index
+	 * @return entry at given index in ascending key order
+	 */
+	public Map.Entry<K, V> getByIndex(int index){
+		checkIndex(index);
+		Node<K, V> current = head;
+		int position = 0;
+		for(int i=level-1;i>=0;i--){
+			while(null != current.forward[i] && position + current.span[i] <= index + 1){
+				position += current.span[i];
+				current = current.forward[i];
+			}
+			if(position == index + 1){
+				break;
+			}
+		}
+		return current;
+	}
+
+	/**
+	 * @param index
+	 * @return removed entry at given index in ascending key order
+	 */
+	public Map.Entry<K, V> removeByIndex(int index){
+		checkIndex(index);
+		Node<K, V> current = head;
+		int position = 0;
+		for(int i=level-1;i>=0;i--){
+			while(null != current.forward[i] && position + current.span[i] <= index){
+				position += current.span[i];
+				current = current.forward[i];
+			}
+			update[i] = current;
+		}
+		Node<K, V> node = current.forward[0];
+		unlink(node);
+		return node;
+	}
+
+	private void checkIndex(int index){
+		if(index < 0 || index >= size){
+			throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+		}
+	}
+
+	public int size(){
+		return size;
+	}
+
+	public boolean isEmpty(){
+		return size == 0;
+	}
+
+	/**
+	 * @return last node with key less than given key, or head if there is no such node
+	 */
+	private Node<K, V> findLess(K key){
+		Node<K, V> current = head, bound = null;
+		for(int i=level-1;i>=0;i--){
+			Node<K, V> next;
+			while((next = current.forward[i]) != bound && next.key.compareTo(key) < 0){
+				current = next;
+			}
+			bound = next;
+		}
+		return current;
+	}
+
+	/**
+	 * Adds up spans of pointers followed while searching the key, which gives position of last node before the key.
+	 * @return number of keys less than given key
+	 */
+	private int countLess(K key){
+		Node<K, V> current = head, bound = null;
+		int count = 0;
+		for(int i=level-1;i>=0;i--){
+			Node<K, V> next;
+			while((next = current.forward[i]) != bound && next.key.compareTo(key) < 0){
+				count += current.span[i];
+				current = next;
+			}
+			bound = next;
+		}
+		return count;
+	}
+
+	private Node<K, V> ceilingNode(K key){
+		return findLess(key).forward[0];
+	}
+
+	private Node<K, V> floorNode(K key){
+		Node<K, V> less = findLess(key);
+		Node<K, V> next = less.forward[0];
+		if(null != next && next.key.compareTo(key) == 0){
+			return next;
+		}
+		return less == head ? null : less;
+	}
+
+	/**
+	 * @return entry with greatest key less than or equal to given key, or null if there is no such key
+	 */
+	public Map.Entry<K, V> floor(K key){
+		return floorNode(key);
+	}
+
+	/**
+	 * @return entry with least key greater than or equal to given key, or null if there is no such key
+	 */
+	public Map.Entry<K, V> ceiling(K key){
+		return ceilingNode(key);
+	}
+
+	/**
+	 * @return entry with least key, or null if list is empty
+	 */
+	public Map.Entry<K, V> first(){
+		return head.forward[0];
+	}
+
+	/**
+	 * @return entry with greatest key, or null if list is empty
+	 */
+	public Map.Entry<K, V> last(){
+		return tail;
+	}
+
+	/**
+	 * Counts keys in range from positions of both ends, without walking the range.
+	 *
+	 * @param fromKey inclusive lower bound, or null for no lower bound
+	 * @param toKey exclusive upper bound, or null for no upper bound
+	 * @return number of keys in range
+	 */
+	public int rangeCount(K fromKey, K toKey){
+		int from = null == fromKey ? 0 : countLess(fromKey);
+		int to = null == toKey ? size : countLess(toKey);
+		return Math.max(0, to - from);
+	}
+
+	/**
+	 * Returns a view of the keys from fromKey (inclusive) to toKey (exclusive). Changes in the list are visible in the view and changes through the view are visible in the list.
+	 *
+	 * @param fromKey inclusive lower bound, or null for no lower bound
+	 * @param toKey exclusive upper bound, or null for no upper bound
+	 * @return
+	 */
+	public SubMap subMap(K fromKey, K toKey){
+		if(null != fromKey && null != toKey && fromKey.compareTo(toKey) > 0){
+			throw new IllegalArgumentException("From key is greater than to key: " + fromKey + " > " + toKey);
+		}
+		return new SubMap(fromKey, toKey);
+	}
+
+	/**
+	 * @return iterator over entries in ascending key order
+	 */
+	@Override
+	public Iterator<Map.Entry<K, V>> iterator(){
+		return new AscendingIterator(head.forward[0], null);
+	}
+
+	/**
+	 * @return iterator over entries in descending key order
+	 */
+	public Iterator<Map.Entry<K, V>> descendingIterator(){
+		return new DescendingIterator(tail, null);
+	}
+
+	/**
+	 * <code>SubMap</code> is a view of a key range of the list. It holds only the bounds, every call searches the list itself.
+	 */
+	public final class SubMap implements Iterable<Map.Entry<K, V>>{
+		private final K fromKey;
+		private final K toKey;
+
+		private SubMap(K fromKey, K toKey) {
+			super();
+			this.fromKey = fromKey;
+			this.toKey = toKey;
+		}
+
+		private boolean inRange(K key){
+			return (null == fromKey || key.compareTo(fromKey) >= 0) && (null == toKey || key.compareTo(toKey) < 0);
+		}
+
+		private Node<K, V> firstNode(){
+			Node<K, V> node = null == fromKey ? head.forward[0] : ceilingNode(fromKey);
+			return null != node && inRange(node.key) ? node : null;
+		}
+
+		private Node<K, V> lastNode(){
+			Node<K, V> node = null == toKey ? tail : findLess(toKey);
+			return null != node && node != head && inRange(node.key) ? node : null;
+		}
+
+		public V get(K key){
+			return inRange(key) ? SkipList.this.get(key) : null;
+		}
+
+		public void insert(K key, V value){
+			if(!inRange(key)){
+				throw new IllegalArgumentException("Key out of range: " + key);
+			}
+			SkipList.this.insert(key, value);
+		}
+
+		public V delete(K key){
+			return inRange(key) ? SkipList.this.delete(key) : null;
+		}
+
+		public int size(){
+			return rangeCount(fromKey, toKey);
+		}
+
+		public boolean isEmpty(){
+			return null == firstNode();
+		}
+
+		public Map.Entry<K, V> first(){
+			return firstNode();
+		}
+
+		public Map.Entry<K, V> last(){
+			return lastNode();
+		}
+
+		@Override
+		public Iterator<Map.Entry<K, V>> iterator(){
+			return new AscendingIterator(firstNode(), toKey);
+		}
+
+		public Iterator<Map.Entry<K, V>> descendingIterator(){
+			return new DescendingIterator(lastNode(), fromKey);
+		}
+
+		@Override
+		public String toString() {
+			return entriesToString(iterator());
+		}
+	}
+
+	/**
+	 * Walks level 0 from given node until key reaches the bound. Next node is found only when asked, so reading first few entries of a range doesn't touch rest of it.
+	 * <p>Iterators are not fail fast. Deleted node keeps its forward pointers, so iteration continues from it if it gets deleted while iterating.</p>
+	 */
+	private final class AscendingIterator implements Iterator<Map.Entry<K, V>>{
+		private Node<K, V> next;
+		private final K toKey;
+		private Node<K, V> lastReturned;
+
+		AscendingIterator(Node<K, V> first, K toKey) {
+			super();
+			this.toKey = toKey;
+			this.next = first;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return null != next && (null == toKey || next.key.compareTo(toKey) < 0);
+		}
+
+		@Override
+		public Map.Entry<K, V> next() {
+			if(!hasNext()){
+				throw new NoSuchElementException();
+			}
+			lastReturned = next;
+			next = next.forward[0];
+			return lastReturned;
+		}
+
+		@Override
+		public void remove() {
+			if(null == lastReturned){
+				throw new IllegalStateException();
+			}
+			delete(lastReturned.key);
+			lastReturned = null;
+		}
+	}
+
+	/**
+	 * Same as <code>AscendingIterator</code>, but follows backward pointers until key goes below the bound.
+	 */
+	private final class DescendingIterator implements Iterator<Map.Entry<K, V>>{
+		private Node<K, V> next;
+		private final K fromKey;
+		private Node<K, V> lastReturned;
+
+		DescendingIterator(Node<K, V> last, K fromKey) {
+			super();
+			this.fromKey = fromKey;
+			this.next = last;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return null != next && (null == fromKey || next.key.compareTo(fromKey) >= 0);
+		}
+
+		@Override
+		public Map.Entry<K, V> next() {
+			if(!hasNext()){
+				throw new NoSuchElementException();
+			}
+			lastReturned = next;
+			next = next.backward;
+			return lastReturned;
+		}
+
+		@Override
+		public void remove() {
+			if(null == lastReturned){
+				throw new IllegalStateException();
+			}
+			delete(lastReturned.key);
+			lastReturned = null;
+		}
+	}
+
+	private static <K, V> String entriesToString(Iterator<Map.Entry<K, V>> iterator){
+		StringBuilder builder = new StringBuilder();
+		builder.append("[");
+		while(iterator.hasNext()){
+			builder.append(iterator.next());
+			if(iterator.hasNext()){
+				builder.append(", ");
+			}
+		}
+		builder.append("]");
+		return builder.toString();
+	}
+
 	public String toString(){
-		Node current = head;
-		
 		StringBuffer sb = new StringBuffer();
 		sb.append("[").append("\r\n");
-		while(null != current){
-			Node down = current.down;
-			
-			sb.append("Level:" + current.level).append(" ");
-			while(current != null){
-				
-				if(current.key == null && current.value == null){
-					//Do nothing if it infinite node
-				}else{
-					sb.append(current.value).append(" ");
-				}
-				current = current.next;
+		for(int i=level-1;i>=0;i--){
+			sb.append("Level:" + i).append(" ");
+			for(Node<K, V> current = head.forward[i]; current != null; current = current.forward[i]){
+				sb.append(current.value).append(" ");
 			}
 			sb.trimToSize();
 			sb.append("\r\n");
-			current = down;
 		}
 		sb.append("]");
 		return sb.toString();
 	}
-	
+
 	public static void main(String[] args) {
 		SkipList<Integer, Integer> skipList = new SkipList<>();
 		skipList.insert(1, 1);
@@ -171,10 +788,41 @@ public class SkipList<K extends Comparable<K>, V> {
 		skipList.insert(50, 50);
 		skipList.insert(40, 40);
 		System.out.println(skipList);
-		
+
 		System.out.println("Value for key: 50 is " + skipList.get(50));
 		System.out.println("Value for key: 40 is " + skipList.get(40));
 		System.out.println("Deleting key: 30 is " + skipList.delete(30));
 		System.out.println(skipList);
+
+		System.out.println("Floor of 35: " + skipList.floor(35) + ", ceiling of 35: " + skipList.ceiling(35));
+		System.out.println("First: " + skipList.first() + ", last: " + skipList.last());
+		System.out.println("Keys in [5, 45): " + skipList.rangeCount(5, 45));
+
+		SkipList<Integer, Integer>.SubMap subMap = skipList.subMap(5, 45);
+		System.out.println("Sub map [5, 45): " + subMap);
+		skipList.insert(20, 20);
+		System.out.println("Sub map after inserting 20: " + subMap + " size: " + subMap.size());
+		System.out.println("Descending: " + entriesToString(skipList.descendingIterator()));
+
+		System.out.println("Rank of 40: " + skipList.rank(40) + ", rank of missing 35: " + skipList.rank(35));
+		System.out.println("Entry at index 2: " + skipList.getByIndex(2));
+		System.out.println("Removing entry at index 0: " + skipList.removeByIndex(0) + " " + entriesToString(skipList.iterator()));
+
+		java.util.TreeMap<Integer, Integer> sorted = new java.util.TreeMap<>();
+		for(int i=0;i<10;i++){
+			sorted.put(i * 5, i * 5);
+		}
+		SkipList<Integer, Integer> loaded = new SkipList<>();
+		loaded.bulkLoad(sorted.entrySet().iterator());
+		System.out.println("Bulk loaded: " + entriesToString(loaded.iterator()));
+		loaded.merge(skipList.iterator());
+		System.out.println("After merging: " + entriesToString(loaded.iterator()) + " size: " + loaded.size());
+
+		//Repeated key in a batch replaces value of the node merged just before it
+		SkipList<Integer, String> repeated = new SkipList<>();
+		repeated.insert(1, "one");
+		repeated.insert(10, "ten");
+		repeated.merge(java.util.List.of(new java.util.AbstractMap.SimpleEntry<>(5, "a"), new java.util.AbstractMap.SimpleEntry<>(5, "b")).iterator());
+		System.out.println("After merging (5, a), (5, b): " + entriesToString(repeated.iterator()) + " size: " + repeated.size() + ", get(5): " + repeated.get(5));
 	}
 }
@@ -53,13 +53,12 @@ public class Stack<T>{
 	}
 	
 	public T pop(){
-		T t = (T) stack[top];
-		
 		if(top == -1)
 		{
 			return null;
 		}
 		
+		T t = (T) stack[top];
 		stack[top] = null;
 		top--;
 		size--;
@@ -67,6 +66,10 @@ public class Stack<T>{
 	}
 	
 	public T peek(){
+		if(top == -1)
+		{
+			return null;
+		}
 		return (T) stack[top];
 	}
 	
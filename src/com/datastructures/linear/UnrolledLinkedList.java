@@ -0,0 +1,450 @@
+package com.datastructures.linear;
+
+import java.util.BitSet;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * <p><code>UnrolledLinkedList</code> is a linked list which keeps up to <code>chunkCapacity</code> (64 by default) elements in an array in every node (chunk), instead of one element per node.
+ * Unlike {@link SingleLinkedList}, <code>add</code> appends at the end, so elements keep the order they were added in.</p>
+ *
+ * <p><code>get(index)</code> skips whole chunks by their sizes, starting from whichever end is nearer, and then reads the chunk's array directly. Iteration reads elements of a chunk one after another from the same array.
+ * So both take n / chunkCapacity pointer hops instead of n, and there are that many times fewer nodes.</p>
+ *
+ * <p>Every chunk except the last is kept at least half full:
+ * inserting into a full chunk splits it into two half full chunks, and when a removal leaves a chunk less than half full it takes elements from the next chunk, or merges with it if both fit in one chunk. The last chunk has no next chunk, so it may stay below half full, and it is removed only when it becomes empty.
+ * Appending to a full last chunk starts a new chunk instead of splitting, so a list built by <code>add</code> has all chunks full except the last.</p>
+ *
+ * <p>Time Complexities:<br>
+ *  add           : O(1)<br>
+ *  get, set      : O(n / chunkCapacity)<br>
+ *  add, remove at index : O(n / chunkCapacity + chunkCapacity)<br>
+ *  remove element: O(n)</p>
+ *
+ * @author Sasi on 20-Oct-2026, 9:12:44 am
+ */
+public class UnrolledLinkedList<T> implements List<T> {
+
+	class Chunk{
+		final Object[] elements;
+		int size;
+		Chunk previous, next;
+
+		Chunk() {
+			super();
+			elements = new Object[chunkCapacity];
+		}
+	}
+
+	private final int chunkCapacity;
+	//Chunks with less elements than this take elements from next chunk
+	private final int minimumFill;
+	private Chunk head, tail;
+	private int size, chunkCount;
+	//Number of structural changes, checked by iterators
+	private int modificationCount;
+	//Offset of last index found by chunkOf in its chunk, kept in a field so that chunkOf needs no result object
+	private int offsetInChunk;
+
+	public UnrolledLinkedList() {
+		this(64);
+	}
+
+	/**
+	 * @param chunkCapacity number of elements in a chunk, at least 2
+	 */
+	public UnrolledLinkedList(int chunkCapacity) {
+		super();
+		if(chunkCapacity < 2){
+			throw new IllegalArgumentException("Chunk capacity must be at least 2: " + chunkCapacity);
+		}
+		this.chunkCapacity = chunkCapacity;
+		minimumFill = chunkCapacity / 2;
+		head = tail = new Chunk();
+		chunkCount = 1;
+	}
+
+	/**
+	 * Appends element at the end of list.
+	 */
+	@Override
+	public T add(T t) {
+		if(tail.size == chunkCapacity){
+			insertChunkAfter(tail);
+		}
+		tail.elements[tail.size++] = t;
+		size++;
+		modificationCount++;
+		return t;
+	}
+
+	/**
+	 * Inserts element at given position, elements from that position move one place right. Full chunk is split in two before inserting.
+	 * @param index from 0 to size
+	 */
+	public void add(int index, T t){
+		if(index < 0 || index > size){
+			throw new ArrayIndexOutOfBoundsException("Index: " + index + ", size: " + size);
+		}
+		if(index == size){
+			add(t);
+			return;
+		}
+
+		Chunk chunk = chunkOf(index);
+		int offset = offsetInChunk;
+		if(chunk.size == chunkCapacity){
+			Chunk right = insertChunkAfter(chunk);
+			int half = chunk.size >> 1;
+			moveElements(chunk, half, right, 0, chunk.size - half);
+			if(offset > half){
+				chunk = right;
+				offset -= half;
+			}
+		}
+		System.arraycopy(chunk.elements, offset, chunk.elements, offset + 1, chunk.size - offset);
+		chunk.elements[offset] = t;
+		chunk.size++;
+		size++;
+		modificationCount++;
+	}
+
+	/**
+	 * Finds chunk holding index by skipping chunks from nearer end, and sets offsetInChunk.
+	 */
+	private Chunk chunkOf(int index){
+		Chunk chunk;
+		if(index < (size >> 1)){
+			chunk = head;
+			while(index >= chunk.size){
+				index -= chunk.size;
+				chunk = chunk.next;
+			}
+		}else{
+			chunk = tail;
+			int start = size - chunk.size;
+			while(index < start){
+				chunk = chunk.previous;
+				start -= chunk.size;
+			}
+			index -= start;
+		}
+		offsetInChunk = index;
+		return chunk;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public T get(int index) throws ArrayIndexOutOfBoundsException {
+		checkIndex(index);
+		Chunk chunk = chunkOf(index);
+		return (T) chunk.elements[offsetInChunk];
+	}
+
+	/**
+	 * @return element which was at given position
+	 */
+	@SuppressWarnings("unchecked")
+	public T set(int index, T t){
+		checkIndex(index);
+		Chunk chunk = chunkOf(index);
+		T old = (T) chunk.elements[offsetInChunk];
+		chunk.elements[offsetInChunk] = t;
+		return old;
+	}
+
+	/**
+	 * @return removed element
+	 */
+	@SuppressWarnings("unchecked")
+	public T remove(int index){
+		checkIndex(index);
+		Chunk chunk = chunkOf(index);
+		T old = (T) chunk.elements[offsetInChunk];
+		removeAt(chunk, offsetInChunk);
+		return old;
+	}
+
+	/**
+	 * Removes first occurrence of the element.
+	 * @return true if element was found
+	 */
+	@Override
+	public boolean remove(T t) {
+		for(Chunk chunk = head; null != chunk; chunk = chunk.next){
+			for(int i=0;i<chunk.size;i++){
+				Object element = chunk.elements[i];
+				if(null == t ? null == element : t.equals(element)){
+					removeAt(chunk, i);
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private void removeAt(Chunk chunk, int offset){
+		System.arraycopy(chunk.elements, offset + 1, chunk.elements, offset, chunk.size - offset - 1);
+		chunk.elements[--chunk.size] = null;
+		size--;
+		modificationCount++;
+		rebalance(chunk);
+	}
+
+	/**
+	 * Brings a chunk which dropped below minimum fill back to it, with elements of next chunk. Last chunk has no next chunk, so it's only removed when it becomes empty.
+	 */
+	private void rebalance(Chunk chunk){
+		if(chunk.size >= minimumFill){
+			return;
+		}
+		Chunk next = chunk.next;
+		if(null == next){
+			if(chunk.size == 0 && chunkCount > 1){
+				unlink(chunk);
+			}
+			return;
+		}
+
+		if(chunk.size + next.size <= chunkCapacity){
+			moveElements(next, 0, chunk, chunk.size, next.size);
+			unlink(next);
+		}else{
+			//Taking half of the difference, both chunks stay at least half full
+			int count = (next.size - chunk.size) >> 1;
+			moveElements(next, 0, chunk, chunk.size, count);
+		}
+	}
+
+	/**
+	 * Moves count elements starting at from's offset to to's offset, and closes the gap in from.
+	 */
+	private void moveElements(Chunk from, int fromOffset, Chunk to, int toOffset, int count){
+		System.arraycopy(to.elements, toOffset, to.elements, toOffset + count, to.size - toOffset);
+		System.arraycopy(from.elements, fromOffset, to.elements, toOffset, count);
+		to.size += count;
+		int tailLength = from.size - fromOffset - count;
+		System.arraycopy(from.elements, fromOffset + count, from.elements, fromOffset, tailLength);
+		for(int i=from.size-count;i<from.size;i++){
+			from.elements[i] = null;
+		}
+		from.size -= count;
+	}
+
+	private Chunk insertChunkAfter(Chunk chunk){
+		Chunk newChunk = new Chunk();
+		newChunk.previous = chunk;
+		newChunk.next = chunk.next;
+		if(null == chunk.next){
+			tail = newChunk;
+		}else{
+			chunk.next.previous = newChunk;
+		}
+		chunk.next = newChunk;
+		chunkCount++;
+		return newChunk;
+	}
+
+	private void unlink(Chunk chunk){
+		if(null == chunk.previous){
+			head = chunk.next;
+		}else{
+			chunk.previous.next = chunk.next;
+		}
+		if(null == chunk.next){
+			tail = chunk.previous;
+		}else{
+			chunk.next.previous = chunk.previous;
+		}
+		chunkCount--;
+	}
+
+	private void checkIndex(int index){
+		if(index < 0 || index >= size){
+			throw new ArrayIndexOutOfBoundsException("Index: " + index + ", size: " + size);
+		}
+	}
+
+	/**
+	 * Tests every element first and marks matches, so list is left unchanged if filter throws. Then compacts kept elements to the front of each chunk in one pass,
+	 * and merges chunks which fell below minimum fill in a second pass over chunks.
+	 */
+	@Override
+	public boolean removeIf(Predicate<? super T> filter) {
+		BitSet matches = new BitSet(size);
+		int index = 0;
+		for(Chunk chunk = head; null != chunk; chunk = chunk.next){
+			for(int i=0;i<chunk.size;i++, index++){
+				@SuppressWarnings("unchecked")
+				T element = (T) chunk.elements[i];
+				if(filter.test(element)){
+					matches.set(index);
+				}
+			}
+		}
+		int removed = matches.cardinality();
+		if(removed == 0){
+			return false;
+		}
+
+		index = 0;
+		for(Chunk chunk = head; null != chunk; chunk = chunk.next){
+			int kept = 0;
+			for(int i=0;i<chunk.size;i++, index++){
+				if(!matches.get(index)){
+					chunk.elements[kept++] = chunk.elements[i];
+				}
+			}
+			for(int i=kept;i<chunk.size;i++){
+				chunk.elements[i] = null;
+			}
+			chunk.size = kept;
+		}
+
+		size -= removed;
+		modificationCount++;
+		Chunk chunk = head;
+		while(null != chunk){
+			//Rebalance merges next chunk or fills this one up to minimum, so merging is repeated while this chunk is still under minimum
+			while(chunk.size < minimumFill && null != chunk.next){
+				rebalance(chunk);
+			}
+			Chunk next = chunk.next;
+			rebalance(chunk);
+			chunk = next;
+		}
+		return true;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public void forEach(Consumer<? super T> action) {
+		for(Chunk chunk = head; null != chunk; chunk = chunk.next){
+			Object[] elements = chunk.elements;
+			for(int i=0, chunkSize=chunk.size;i<chunkSize;i++){
+				action.accept((T) elements[i]);
+			}
+		}
+	}
+
+	@Override
+	public int size(){
+		return size;
+	}
+
+	/**
+	 * @return number of chunks, which is the number of node objects in the list
+	 */
+	public int chunkCount(){
+		return chunkCount;
+	}
+
+	/**
+	 * Iterates chunk by chunk from the first element. Changes to the list other than through iterator's <code>remove</code> make the iterator throw {@link ConcurrentModificationException}.
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new Iterator<T>() {
+			private Chunk chunk = head;
+			private int offset;
+			//Chunk and offset of the element returned last, for remove
+			private Chunk lastChunk;
+			private int lastOffset = -1;
+			private int remaining = size;
+			private int expectedModificationCount = modificationCount;
+
+			@Override
+			public boolean hasNext() {
+				return remaining > 0;
+			}
+
+			@SuppressWarnings("unchecked")
+			@Override
+			public T next() {
+				if(expectedModificationCount != modificationCount){
+					throw new ConcurrentModificationException();
+				}
+				if(remaining == 0){
+					throw new NoSuchElementException();
+				}
+				while(offset == chunk.size){
+					chunk = chunk.next;
+					offset = 0;
+				}
+				lastChunk = chunk;
+				lastOffset = offset;
+				remaining--;
+				return (T) chunk.elements[offset++];
+			}
+
+			/**
+			 * Removal can move elements of the next chunk into current chunk or merge it, so iterator continues from the index of next element instead of the current position.
+			 */
+			@Override
+			public void remove() {
+				if(lastOffset < 0){
+					throw new IllegalStateException();
+				}
+				if(expectedModificationCount != modificationCount){
+					throw new ConcurrentModificationException();
+				}
+				removeAt(lastChunk, lastOffset);
+				lastOffset = -1;
+				expectedModificationCount = modificationCount;
+				int nextIndex = size - remaining;
+				if(remaining > 0){
+					chunk = chunkOf(nextIndex);
+					offset = offsetInChunk;
+				}
+			}
+		};
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("[ ");
+		for(Chunk chunk = head; null != chunk; chunk = chunk.next){
+			for(int i=0;i<chunk.size;i++){
+				builder.append(chunk.elements[i]).append(" ");
+			}
+		}
+		builder.append("]");
+		return builder.toString();
+	}
+
+	public static void main(String[] args) {
+		UnrolledLinkedList<Integer> list = new UnrolledLinkedList<Integer>(4);
+		for(int i=0;i<10;i++){
+			list.add(i);
+		}
+		System.out.println(list + ", chunks: " + list.chunkCount());
+
+		list.add(2, 100);
+		list.remove(Integer.valueOf(7));
+		list.remove(0);
+		System.out.println(list + ", chunks: " + list.chunkCount());
+		System.out.println("Element at index 5: " + list.get(5));
+
+		for(Iterator<Integer> iterator = list.iterator(); iterator.hasNext();){
+			if(iterator.next() % 2 == 0){
+				iterator.remove();
+			}
+		}
+		System.out.println("Odd elements: " + list + ", chunks: " + list.chunkCount());
+
+		UnrolledLinkedList<Integer> large = new UnrolledLinkedList<Integer>();
+		for(int i=0;i<1000000;i++){
+			large.add(i);
+		}
+		long start = System.nanoTime();
+		long sum = 0;
+		for(int i=0;i<1000;i++){
+			sum += large.get((int) ((i * 7919L) % large.size()));
+		}
+		System.out.println("Chunks for " + large.size() + " elements: " + large.chunkCount() + ", 1000 random gets took " + (System.nanoTime() - start) / 1000 + " microseconds, sum " + sum);
+	}
+}
@@ -0,0 +1,316 @@
+package com.datastructures.linear.ads;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * <p><code>RadixTrie</code> is a compressed trie (radix tree, Patricia trie) over UTF-8 bytes of keys, so any string can be a key.
+ * Every edge is labelled with a byte sequence instead of a single character, and a chain of nodes with a single child each is kept as one node with the whole chain as its label.
+ * So there are at most two nodes per key, however long keys are, and a lookup compares whole labels with the key instead of hopping one node per character.</p>
+ *
+ * <p>Children of a node are kept in two arrays of exact length, first byte of each child's label in a <code>byte[]</code> sorted as unsigned (which is code point order for UTF-8) and the children themselves.
+ * A node with k children takes about 80 bytes plus its label and 5 bytes per child, instead of a node with a 26 slot array (about 140 bytes) for every character of every key in a plain trie.
+ * Leaves share empty arrays. Deleting a key merges its node with the only child left, or with parent, so the tree stays compressed.</p>
+ *
+ * <p>Time complexity for insert, search and delete - O(m + d log(256)) where m is length of key in bytes and d is depth of the node it ends at.</p>
+ *
+ * @author Sasi on 20-Oct-2026, 11:41:30 am
+ */
+public class RadixTrie {
+
+	private static final byte[] NO_BYTES = new byte[0];
+	private static final Node[] NO_CHILDREN = new Node[0];
+
+	static final class Node{
+		//Bytes on the edge from parent to this node, empty only for root
+		byte[] label;
+		byte[] firstBytes = NO_BYTES;
+		Node[] children = NO_CHILDREN;
+		boolean isEndOfWord;
+
+		Node(byte[] label) {
+			super();
+			this.label = label;
+		}
+
+		/**
+		 * Binary search over first bytes of children as unsigned values.
+		 * @return index of child whose label starts with given byte, or -(insertion point) - 1
+		 */
+		int indexOf(byte first){
+			int key = first & 0xFF;
+			int low = 0, high = firstBytes.length - 1;
+			while(low <= high){
+				int middle = (low + high) >>> 1;
+				int value = firstBytes[middle] & 0xFF;
+				if(value < key){
+					low = middle + 1;
+				}else if(value > key){
+					high = middle - 1;
+				}else{
+					return middle;
+				}
+			}
+			return -(low + 1);
+		}
+
+		void insertChild(int index, Node child){
+			int length = children.length;
+			byte[] newFirstBytes = new byte[length + 1];
+			Node[] newChildren = new Node[length + 1];
+			System.arraycopy(firstBytes, 0, newFirstBytes, 0, index);
+			System.arraycopy(children, 0, newChildren, 0, index);
+			newFirstBytes[index] = child.label[0];
+			newChildren[index] = child;
+			System.arraycopy(firstBytes, index, newFirstBytes, index + 1, length - index);
+			System.arraycopy(children, index, newChildren, index + 1, length - index);
+			firstBytes = newFirstBytes;
+			children = newChildren;
+		}
+
+		void removeChild(int index){
+			int length = children.length;
+			if(length == 1){
+				firstBytes = NO_BYTES;
+				children = NO_CHILDREN;
+				return;
+			}
+			byte[] newFirstBytes = new byte[length - 1];
+			Node[] newChildren = new Node[length - 1];
+			System.arraycopy(firstBytes, 0, newFirstBytes, 0, index);
+			System.arraycopy(children, 0, newChildren, 0, index);
+			System.arraycopy(firstBytes, index + 1, newFirstBytes, index, length - index - 1);
+			System.arraycopy(children, index + 1, newChildren, index, length - index - 1);
+			firstBytes = newFirstBytes;
+			children = newChildren;
+		}
+
+		/**
+		 * Appends label of the only child to this node's label and takes over child's children.
+		 */
+		void mergeWithOnlyChild(){
+			Node child = children[0];
+			byte[] merged = Arrays.copyOf(label, label.length + child.label.length);
+			System.arraycopy(child.label, 0, merged, label.length, child.label.length);
+			label = merged;
+			firstBytes = child.firstBytes;
+			children = child.children;
+			isEndOfWord = child.isEndOfWord;
+		}
+	}
+
+	private final Node root;
+	private int size;
+	private int nodeCount;
+
+	public RadixTrie() {
+		super();
+		root = new Node(NO_BYTES);
+		nodeCount = 1;
+	}
+
+	private static byte[] bytesOf(String key){
+		if(null == key){
+			throw new IllegalArgumentException("Key can't be null");
+		}
+		return key.getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * @param key
+	 * @return true if key was added, false if it already exists
+	 */
+	public boolean insert(String key){
+		byte[] bytes = bytesOf(key);
+		Node node = root;
+		int position = 0;
+		while(position < bytes.length){
+			int index = node.indexOf(bytes[position]);
+			if(index < 0){
+				//No child starts with next byte, rest of the key becomes a single leaf
+				Node leaf = new Node(Arrays.copyOfRange(bytes, position, bytes.length));
+				leaf.isEndOfWord = true;
+				node.insertChild(-index - 1, leaf);
+				nodeCount++;
+				size++;
+				return true;
+			}
+
+			Node child = node.children[index];
+			int common = commonPrefixLength(child.label, bytes, position);
+			if(common < child.label.length){
+				//Key leaves child's label in the middle, so label is split there and child goes under the new node
+				Node middle = new Node(Arrays.copyOf(child.label, common));
+				child.label = Arrays.copyOfRange(child.label, common, child.label.length);
+				middle.firstBytes = new byte[]{child.label[0]};
+				middle.children = new Node[]{child};
+				node.children[index] = middle;
+				nodeCount++;
+				child = middle;
+			}
+			node = child;
+			position += common;
+		}
+
+		if(node.isEndOfWord){
+			return false;
+		}
+		node.isEndOfWord = true;
+		size++;
+		return true;
+	}
+
+	private static int commonPrefixLength(byte[] label, byte[] bytes, int position){
+		int length = Math.min(label.length, bytes.length - position);
+		int i = 0;
+		while(i < length && label[i] == bytes[position + i]){
+			i++;
+		}
+		return i;
+	}
+
+	/**
+	 * @return node whose path is exactly the key, or null
+	 */
+	private Node find(byte[] bytes){
+		Node node = root;
+		int position = 0;
+		while(position < bytes.length){
+			int index = node.indexOf(bytes[position]);
+			if(index < 0){
+				return null;
+			}
+			node = node.children[index];
+			byte[] label = node.label;
+			if(bytes.length - position < label.length || !Arrays.equals(label, 0, label.length, bytes, position, position + label.length)){
+				return null;
+			}
+			position += label.length;
+		}
+		return node;
+	}
+
+	public boolean search(String key){
+		Node node = find(bytesOf(key));
+		return null != node && node.isEndOfWord;
+	}
+
+	/**
+	 * @return true if any key starts with given prefix
+	 */
+	public boolean startsWith(String prefix){
+		byte[] bytes = bytesOf(prefix);
+		Node node = root;
+		int position = 0;
+		while(position < bytes.length){
+			int index = node.indexOf(bytes[position]);
+			if(index < 0){
+				return false;
+			}
+			node = node.children[index];
+			int common = commonPrefixLength(node.label, bytes, position);
+			if(common < node.label.length){
+				//Prefix may end in the middle of a label, but mustn't leave it
+				return position + common == bytes.length;
+			}
+			position += common;
+		}
+		return node != root || size > 0;
+	}
+
+	/**
+	 * Unmarks key's node, then removes it if it has no children, or merges it with its only child.
+	 * Parent left with a single child and no key of its own is merged with that child too.
+	 * @return true if key existed
+	 */
+	public boolean delete(String key){
+		byte[] bytes = bytesOf(key);
+		Node parent = null, node = root;
+		int indexInParent = -1, position = 0;
+		while(position < bytes.length){
+			int index = node.indexOf(bytes[position]);
+			if(index < 0){
+				return false;
+			}
+			Node child = node.children[index];
+			byte[] label = child.label;
+			if(bytes.length - position < label.length || !Arrays.equals(label, 0, label.length, bytes, position, position + label.length)){
+				return false;
+			}
+			parent = node;
+			node = child;
+			indexInParent = index;
+			position += label.length;
+		}
+		if(!node.isEndOfWord){
+			return false;
+		}
+
+		node.isEndOfWord = false;
+		size--;
+		if(node == root){
+			return true;
+		}
+		if(node.children.length == 0){
+			parent.removeChild(indexInParent);
+			nodeCount--;
+			if(parent != root && !parent.isEndOfWord && parent.children.length == 1){
+				parent.mergeWithOnlyChild();
+				nodeCount--;
+			}
+		}else if(node.children.length == 1){
+			node.mergeWithOnlyChild();
+			nodeCount--;
+		}
+		return true;
+	}
+
+	/**
+	 * @return number of keys
+	 */
+	public int size(){
+		return size;
+	}
+
+	/**
+	 * @return number of nodes including root, at most twice the number of keys plus one
+	 */
+	public int nodeCount(){
+		return nodeCount;
+	}
+
+	public static void main(String[] args) {
+		RadixTrie trie = new RadixTrie();
+		String[] keys = new String[]{"c", "cpp", "java", "javascript", "Python", "perl", "sql", "golang", "/usr/local/bin", "/usr/local/lib", "h\u00e9llo", "\u65e5\u672c\u8a9e", "emoji \ud83d\ude00"};
+		for(String key : keys){
+			trie.insert(key);
+		}
+
+		System.out.println("Keys: " + trie.size() + ", nodes: " + trie.nodeCount());
+		System.out.println("java exists: " + trie.search("java") + ", jav exists: " + trie.search("jav") + ", starts with jav: " + trie.startsWith("jav"));
+		System.out.println("Python exists: " + trie.search("Python") + ", \u65e5\u672c\u8a9e exists: " + trie.search("\u65e5\u672c\u8a9e") + ", emoji exists: " + trie.search("emoji \ud83d\ude00"));
+		System.out.println("Starts with /usr/local/: " + trie.startsWith("/usr/local/") + ", starts with /usr/share: " + trie.startsWith("/usr/share"));
+
+		trie.delete("javascript");
+		trie.delete("/usr/local/bin");
+		System.out.println("After deleting javascript and /usr/local/bin, java exists: " + trie.search("java") + ", javascript exists: " + trie.search("javascript")
+				+ ", /usr/local/lib exists: " + trie.search("/usr/local/lib") + ", nodes: " + trie.nodeCount());
+
+		//Path like keys share long prefixes, a plain trie needs a node for every distinct prefix
+		RadixTrie paths = new RadixTrie();
+		Set<String> prefixes = new HashSet<String>();
+		Random random = new Random(42);
+		String[] hosts = {"https://example.com/", "https://docs.example.org/", "https://static.example.net/"};
+		for(int i=0;i<20000;i++){
+			String path = hosts[random.nextInt(hosts.length)] + "section" + random.nextInt(50) + "/page" + random.nextInt(100000) + ".html";
+			paths.insert(path);
+			for(int j=1;j<=path.length();j++){
+				prefixes.add(path.substring(0, j));
+			}
+		}
+		System.out.println("Paths: " + paths.size() + ", radix trie nodes: " + paths.nodeCount() + ", plain trie nodes: " + (prefixes.size() + 1));
+	}
+}
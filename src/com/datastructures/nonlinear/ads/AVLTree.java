@@ -13,9 +13,11 @@ public class AVLTree {
 	
 	public Node insertNode(Node root, int data){
 		
-		//If root is null create new node and return
+		//If root is null create new node and return, leaf node has height 1 so that it differs from missing child
 		if(null == root){
-			return new Node(data);
+			Node node = new Node(data);
+			node.setHeight(1);
+			return node;
 		}
 		
 		//Traverse to bottom of tree to insert new node
@@ -49,7 +51,7 @@ public class AVLTree {
 		}
 		//Checking if tree is satisfying right-left rotation principal
 		else if(balance < -1 && data < root.getRight().getValue()){
-			doRightLeftRotation(root);
+			root = doRightLeftRotation(root);
 		}
 		
 		return root;
@@ -122,7 +124,7 @@ public class AVLTree {
 	private Node minSuccessor(Node root) {
 		Node current = root;
 		
-		while(current != null){
+		while(current.getLeft() != null){
 			current = current.getLeft();
 		}
 		return current;
@@ -132,6 +134,9 @@ public class AVLTree {
 		Node newRoot = root.getRight();
 		root.setRight(newRoot.getLeft());
 		newRoot.setLeft(root);
+		
+		//Old root is now child of new root, so its height has to be updated first
+		updateNodeHeight(root);
 		updateNodeHeight(newRoot);
 		return newRoot;
 	}
@@ -140,6 +145,7 @@ public class AVLTree {
 		Node newRoot = root.getLeft();
 		root.setLeft(newRoot.getRight());
 		newRoot.setRight(root);
+		updateNodeHeight(root);
 		updateNodeHeight(newRoot);
 		return newRoot;
 	}
@@ -151,8 +157,8 @@ public class AVLTree {
 	}
 	
 	public Node doRightLeftRotation(Node root){
-		root.setRight(doLeftRotation(root.getRight()));
-		root = doRightRotation(root);
+		root.setRight(doRightRotation(root.getRight()));
+		root = doLeftRotation(root);
 		return root;
 	}
 	
@@ -183,11 +189,11 @@ public class AVLTree {
 		
 		Traversals.inorderTraversal(rootNode);
 		
-		tree.deleteNode(rootNode, 5);
+		rootNode = tree.deleteNode(rootNode, 5);
 		System.out.println();
 		Traversals.inorderTraversal(rootNode);
 		
-		tree.deleteNode(rootNode, 7);
+		rootNode = tree.deleteNode(rootNode, 7);
 		System.out.println();
 		Traversals.inorderTraversal(rootNode);
 	}